@@ -4,11 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.dto.AdminAuditable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -16,40 +21,51 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class AdminLoggingAspect {
 
+  private final ObjectMapper objectMapper;
+
   @Pointcut("@annotation(org.example.expert.domain.common.annotation.Admin)")
   public void adminAnnotation() {
   }
 
-  @Around("adminAnnotation() &&"
-          + "!execution(void *(*)) &&"
-          + "args(.., body)")
-  public void withRequestBody(ProceedingJoinPoint joinPoint, Object body) throws Throwable {
-    HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-    doLog(joinPoint, request, body);
-  }
-
-  @Around("adminAnnotation() && execution(void *(*))")
-  public void withoutRequestBody(ProceedingJoinPoint joinPoint) throws Throwable {
+  // 반환값을 그대로 돌려줘야 응답 본문이 있는 관리자 API 도 동작한다
+  @Around("adminAnnotation()")
+  public Object logAdminRequest(ProceedingJoinPoint joinPoint) throws Throwable {
     HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-    doLog(joinPoint, request, new HashMap<String, Object>());
+    return doLog(joinPoint, request, requestArguments(joinPoint));
   }
 
-  public void doLog(ProceedingJoinPoint joinPoint, HttpServletRequest request, Object requestBody)
+  public Object doLog(ProceedingJoinPoint joinPoint, HttpServletRequest request, Object requestBody)
           throws Throwable {
-    ObjectMapper om = new ObjectMapper();
     LocalDateTime requestTime = (LocalDateTime) request.getAttribute("requestTime");
 
     log.info("[{}] [REQUEST] [{} {}] {}",
             requestTime, request.getMethod(), request.getRequestURI(),
-            om.writeValueAsString(requestBody));
+            objectMapper.writeValueAsString(requestBody));
 
     Object result = joinPoint.proceed();
-    Object responseBody = result == null ? new HashMap<String, Object>() : result;
+    Object responseBody = result == null ? new HashMap<String, Object>() : summarize(result);
 
     log.info("[{}] [RESPONSE] [{} {}] {}",
             LocalDateTime.now(), request.getMethod(), request.getRequestURI(),
-            om.writeValueAsString(responseBody));
+            objectMapper.writeValueAsString(responseBody));
+    return result;
+  }
+
+  private Map<String, Object> requestArguments(ProceedingJoinPoint joinPoint) {
+    String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+    Object[] args = joinPoint.getArgs();
+    Map<String, Object> arguments = new LinkedHashMap<>();
+    for (int i = 0; i < args.length; i++) {
+      arguments.put(names[i], summarize(args[i]));
+    }
+    return arguments;
+  }
+
+  // 대량 요청은 ID 목록 전체 대신 요약만 남긴다
+  private Object summarize(Object value) {
+    return value instanceof AdminAuditable auditable ? auditable.auditSummary() : value;
   }
 }
@@ -0,0 +1,143 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜("MM-dd")별 날씨 캐시.
+ * weather.json 은 하루 단위로만 바뀌므로 문서 전체를 한 번 받아 불변 Map 으로 보관하고,
+ * 동시에 발생한 miss 는 하나의 조회로 합친다. 갱신에 실패하면 마지막으로 받은 값을 계속 사용하고,
+ * failure-backoff 동안은 외부 API 를 다시 부르지 않는다.
+ */
+@Slf4j
+@Component
+public class WeatherCache {
+
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final WeatherClient weatherClient;
+    private final long failureBackoffNanos;
+
+    private volatile Snapshot snapshot;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    // 마지막 갱신 실패 시각(System.nanoTime). 실패한 적이 없으면 null.
+    private volatile Long lastFailureNanos;
+
+    public WeatherCache(
+            WeatherClient weatherClient,
+            @Value("${weather.cache.failure-backoff:5s}") Duration failureBackoff
+    ) {
+        this.weatherClient = weatherClient;
+        this.failureBackoffNanos = failureBackoff.toNanos();
+    }
+
+    public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+        if (current == null || current.isStaleOn(today)) {
+            current = refreshOrFallback(current, today);
+        }
+
+        String weather = current.weatherByDate().get(date.format(MONTH_DAY));
+        if (weather == null) {
+            throw new ServerException("해당 날짜에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 자정 직전에 다음 날 기준으로 미리 받아 두어, 날짜가 바뀐 뒤 첫 요청이 외부 호출을 기다리지 않게 한다.
+    @Scheduled(cron = "${weather.cache.prefetch-cron:0 50 23 * * *}")
+    public void prefetchTomorrow() {
+        try {
+            refresh(LocalDate.now().plusDays(1));
+        } catch (RuntimeException e) {
+            log.warn("다음 날 날씨 미리 받기에 실패했습니다. 기존 값을 유지합니다.", e);
+        }
+    }
+
+    private Snapshot refreshOrFallback(Snapshot current, LocalDate today) {
+        // 방금 실패했다면 요청마다 외부 API 를 두드리지 않고 잠시 기다린다.
+        if (isBackingOff()) {
+            if (current == null) {
+                throw new ServerException("날씨 데이터를 가져오지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return current;
+        }
+        try {
+            return refresh(today);
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            log.warn("날씨 갱신에 실패해 {} 기준 값을 계속 사용합니다.", current.validThrough(), e);
+            return current;
+        }
+    }
+
+    // single-flight: 이미 진행 중인 조회가 있으면 새로 호출하지 않고 그 결과를 기다린다.
+    private Snapshot refresh(LocalDate validThrough) {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 앞선 조회가 끝난 직후에 들어왔다면 이미 갱신된 값을 쓴다.
+            Snapshot current = snapshot;
+            if (current != null && !current.validThrough().isBefore(validThrough)) {
+                mine.complete(current);
+                return current;
+            }
+
+            Snapshot fresh = new Snapshot(weatherClient.getWeatherByDate(), validThrough);
+            snapshot = fresh;
+            lastFailureNanos = null;
+            mine.complete(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            lastFailureNanos = System.nanoTime();
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private boolean isBackingOff() {
+        Long failedAt = lastFailureNanos;
+        return failedAt != null && System.nanoTime() - failedAt < failureBackoffNanos;
+    }
+
+    private Snapshot await(CompletableFuture<Snapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Snapshot(Map<String, String> weatherByDate, LocalDate validThrough) {
+
+        boolean isStaleOn(LocalDate today) {
+            return today.isAfter(validThrough);
+        }
+    }
+}
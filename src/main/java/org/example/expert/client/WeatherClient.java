@@ -1,29 +1,202 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.net.URI;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+/**
+ * 날씨 API 클라이언트.
+ * keep-alive 커넥션 풀과 호출 단위 deadline 을 두고, 서킷 브레이커로 느리거나 실패하는 upstream 을 차단한다.
+ * 브레이커가 열려 있거나 호출이 실패하면 ServerException 을 던지며, 이때 {@link WeatherCache}가 마지막 값으로 대체한다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final String CIRCUIT_BREAKER_NAME = "weather";
+
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
+    private final WeatherClientProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+    private final Timer latency;
+    private final Counter breakerTrips;
+    private final Counter hedgedRequests;
+
+    public WeatherClient(RestTemplateBuilder builder, WeatherClientProperties properties,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient = createHttpClient(properties);
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+
+        CircuitBreakerRegistry circuitBreakerRegistry =
+                CircuitBreakerRegistry.of(createCircuitBreakerConfig(properties));
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+                .bindTo(meterRegistry);
+
+        this.breakerTrips = Counter.builder("weather.client.circuit-breaker.trips")
+                .description("날씨 API 서킷 브레이커가 OPEN 으로 전환된 횟수")
+                .register(meterRegistry);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("날씨 API 서킷 브레이커 상태 변경: {}", event.getStateTransition());
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+                breakerTrips.increment();
+            }
+        });
+
+        this.latency = Timer.builder("weather.client.latency")
+                .publishPercentiles(properties.getHedge().getPercentile())
+                .register(meterRegistry);
+        this.hedgedRequests = Counter.builder("weather.client.hedged-requests")
+                .register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "weather-client-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * weather.json 전체를 한 번에 받아 "MM-dd" 날짜별 날씨의 불변 Map 으로 반환한다.
+     */
+    public Map<String, String> getWeatherByDate() {
+        try {
+            return circuitBreaker.executeCallable(this::fetchWithinDeadline);
+        } catch (CallNotPermittedException e) {
+            throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+        } catch (ServerException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        // 풀에 남은 keep-alive 커넥션을 정리한다.
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("날씨 API HTTP 클라이언트를 닫지 못했습니다.", e);
+        }
+    }
+
+    private Map<String, String> fetchWithinDeadline() throws Exception {
+        CompletableFuture<Map<String, String>> result = properties.getHedge().isEnabled()
+                ? fetchHedged()
+                : CompletableFuture.supplyAsync(this::fetchTimed, executor);
+        try {
+            return result.get(properties.getDeadline().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new ServerException("날씨 API 응답이 제한 시간을 초과했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 첫 요청이 관측된 백분위수 응답 시간 안에 끝나지 않으면 두 번째 요청을 보내고 먼저 성공한 응답을 쓴다.
+    // 첫 요청이 그 전에 실패하면 지연을 기다리지 않고 바로 보낸다.
+    private CompletableFuture<Map<String, String>> fetchHedged() {
+        CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+        AtomicInteger remainingAttempts = new AtomicInteger(2);
+        BiConsumer<Map<String, String>, Throwable> onComplete = (weatherByDate, error) -> {
+            if (error == null) {
+                result.complete(weatherByDate);
+            } else if (remainingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        };
+
+        AtomicBoolean hedgeSent = new AtomicBoolean();
+        Runnable hedge = () -> {
+            if (result.isDone() || !hedgeSent.compareAndSet(false, true)) {
+                return;
+            }
+            hedgedRequests.increment();
+            CompletableFuture.supplyAsync(this::fetchTimed, executor).whenComplete(onComplete);
+        };
+
+        CompletableFuture.supplyAsync(this::fetchTimed, executor).whenComplete((weatherByDate, error) -> {
+            onComplete.accept(weatherByDate, error);
+            if (error != null) {
+                hedge.run();
+            }
+        });
+        CompletableFuture.delayedExecutor(hedgeDelayMillis(), TimeUnit.MILLISECONDS, executor).execute(hedge);
+        return result;
+    }
+
+    private long hedgeDelayMillis() {
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == properties.getHedge().getPercentile() && value.value() > 0) {
+                return (long) value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return properties.getHedge().getDefaultDelay().toMillis();
     }
 
-    public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+    private Map<String, String> fetchTimed() {
+        return latency.record(this::fetch);
+    }
+
+    private Map<String, String> fetch() {
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        } catch (RestClientException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        }
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (isFailedToFetchWeather(responseEntity)) {
@@ -33,15 +206,10 @@ public class WeatherClient {
         if (isEmptyWeatherData(weatherArray)) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
-        String today = getCurrentDate();
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Arrays.stream(weatherArray)
+                .collect(Collectors.toUnmodifiableMap(
+                        WeatherDto::getDate, WeatherDto::getWeather, (first, second) -> first));
     }
 
     private boolean isEmptyWeatherData(WeatherDto[] weatherArray) {
@@ -54,15 +222,44 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(properties.getBaseUrl())
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static CloseableHttpClient createHttpClient(WeatherClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager =
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.getMaxConnections())
+                        .setMaxConnPerRoute(properties.getMaxConnections())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                                .build())
+                        .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    private static CircuitBreakerConfig createCircuitBreakerConfig(
+            WeatherClientProperties properties) {
+        WeatherClientProperties.CircuitBreaker config = properties.getCircuitBreaker();
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(config.getWaitDurationInOpenState())
+                .slowCallDurationThreshold(properties.getDeadline())
+                .build();
     }
 }
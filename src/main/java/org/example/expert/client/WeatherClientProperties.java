@@ -0,0 +1,49 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather.client")
+public class WeatherClientProperties {
+
+    private String baseUrl = "https://f-api.github.io";
+
+    // 커넥션 풀
+    private int maxConnections = 20;
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    // 호출 단위 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(2);
+    private Duration deadline = Duration.ofSeconds(3);
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedge hedge = new Hedge();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 5;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        private boolean enabled = false;
+        // 관측된 응답 시간의 이 백분위수를 넘기면 두 번째 요청을 보낸다.
+        private double percentile = 0.95;
+        // 관측값이 없을 때 사용할 대기 시간
+        private Duration defaultDelay = Duration.ofMillis(300);
+    }
+}
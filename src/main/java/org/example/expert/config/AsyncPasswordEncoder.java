@@ -0,0 +1,132 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 해싱을 요청 스레드가 아닌 전용 스레드 풀에서 수행한다.
+ * 풀 크기는 CPU 수, 대기열은 고정 크기이며, 대기열이 가득 차면 쌓아두지 않고 바로 503 으로 거절한다.
+ * 대기열 길이는 password.hash.queue.size, 해싱 시간은 password.hash.duration(operation=encode|matches),
+ * 거절 수는 password.hash.rejected, 현재 목표 cost 는 password.hash.cost 메트릭으로 노출된다.
+ * 해싱 뒤의 저장 / 토큰 발급은 {@link #continuationExecutor()} 에서 이어서 실행해, DB 지연이 해싱 스레드를 붙잡지 않게 한다.
+ */
+@Slf4j
+@Component
+public class AsyncPasswordEncoder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService continuationExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public AsyncPasswordEncoder(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:100}") int queueCapacity,
+            @Value("${password.hash.continuation-threads:10}") int continuationThreads
+    ) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // 해싱 풀의 대기열이 받아들인 만큼만 후속 작업이 생기므로 이쪽 대기열은 따로 제한하지 않는다.
+        AtomicInteger continuationThreadNumber = new AtomicInteger();
+        this.continuationExecutor = Executors.newFixedThreadPool(continuationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "password-io-" + continuationThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration").tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        meterRegistry.gauge("password.hash.queue.size", executor.getQueue(), BlockingQueue::size);
+        meterRegistry.gauge("password.hash.cost", passwordEncoder, PasswordEncoder::getCost);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 해싱 결과로 DB 를 쓰거나 토큰을 만드는 후속 단계는 thenApplyAsync(..., continuationExecutor()) 로 이어서 실행한다.
+    public Executor continuationExecutor() {
+        return continuationExecutor;
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.needsRehash(encodedPassword);
+    }
+
+    /**
+     * 재해싱처럼 미뤄도 되는 작업용. 대기열이 가득 차면 거절 메트릭을 올리지 않고 빈 값을 돌려주어
+     * 사용자 요청의 해싱이 우선하도록 한다.
+     */
+    public Optional<CompletableFuture<String>> tryEncode(String rawPassword) {
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(
+                    () -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), executor));
+        } catch (RejectedExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> hashing) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(hashing), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("비밀번호 해싱 작업이 제시간에 끝나지 않아 강제 종료합니다. 남은 작업 수: {}",
+                    executor.shutdownNow().size());
+        }
+        continuationExecutor.shutdown();
+        if (!continuationExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("비밀번호 해싱 후속 작업이 제시간에 끝나지 않아 강제 종료합니다. 남은 작업 수: {}",
+                    continuationExecutor.shutdownNow().size());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidAdminAccessException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -69,6 +70,15 @@ public class GlobalExceptionHandler {
     return getErrorResponse(status, ex.getMessage());
   }
 
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(
+          ServiceUnavailableException ex) {
+    log.info("handleServiceUnavailableException", ex);
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    return getErrorResponse(status, ex.getMessage());
+  }
+
   public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
     Map<String, Object> errorResponse = new HashMap<>();
     errorResponse.put("status", status.name());
@@ -1,17 +1,113 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final char[] CALIBRATION_PASSWORD = "calibration-password".toCharArray();
+
+    private final Duration targetDuration;
+    private final int minCost;
+    private final int maxCost;
+    private final int calibrationSamples;
+
+    // 보정 전에는 min-cost 를 쓴다.
+    private volatile int cost;
+
+    public PasswordEncoder(
+            @Value("${password.bcrypt.target-duration:100ms}") Duration targetDuration,
+            @Value("${password.bcrypt.min-cost:10}") int minCost,
+            @Value("${password.bcrypt.max-cost:16}") int maxCost,
+            @Value("${password.bcrypt.calibration-samples:5}") int calibrationSamples
+    ) {
+        this.targetDuration = targetDuration;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.calibrationSamples = Math.max(1, calibrationSamples);
+        this.cost = minCost;
+    }
+
+    /**
+     * 기동 시 이 하드웨어에서 해시 한 번에 걸리는 시간을 재서, target-duration 안에 들어오는 가장 큰 cost 를 고른다.
+     * cost 가 1 오를 때마다 시간이 두 배가 되므로 min-cost 부터 하나씩 올려 보다가 예산을 넘으면 멈춘다.
+     * 기동 중 다른 작업이나 GC 에 한 번 걸린 측정으로 cost 가 낮아지지 않도록 cost 마다 여러 번 재서 중앙값을 쓴다.
+     */
+    @PostConstruct
+    public void calibrate() {
+        long budgetNanos = targetDuration.toNanos();
+
+        // 첫 측정은 JIT 워밍업이 섞이므로 버린다.
+        measure(minCost);
+        if (medianOf(minCost) > budgetNanos) {
+            log.warn("최소 cost {} 도 목표 시간 {}ms 를 넘습니다. 최소 cost 를 사용합니다.",
+                    minCost, targetDuration.toMillis());
+        }
+
+        int calibrated = minCost;
+        while (calibrated < maxCost && medianOf(calibrated + 1) <= budgetNanos) {
+            calibrated++;
+        }
+        cost = calibrated;
+
+        log.info("BCrypt cost 보정 완료. cost: {}, 목표 시간: {}ms", cost, targetDuration.toMillis());
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 목표보다 낮을 때만 다시 해싱한다. BCrypt 해시가 아니면 판단하지 않는다.
+     * 올리기만 하므로 바쁜 기동에서 낮게 보정된 노드가 기존 해시를 약하게 만들지 않고,
+     * 노드마다 보정 결과가 달라도 같은 유저를 번갈아 재해싱하지 않는다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    // BCrypt 해시는 "$2a$10$..." 형태로 cost 를 자체에 담고 있다.
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private long medianOf(int cost) {
+        long[] samples = new long[calibrationSamples];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = measure(cost);
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private long measure(int cost) {
+        long startedAt = System.nanoTime();
+        BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD);
+        return System.nanoTime() - startedAt;
+    }
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import org.example.expert.config.AsyncPasswordEncoder;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -11,53 +14,102 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.EmailBloomFilter;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordEncoder asyncPasswordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
 
-    @Transactional
-    public SignupResponse signup(SignupRequest signupRequest) {
+    /**
+     * 해싱은 {@link AsyncPasswordEncoder} 의 전용 풀에서 하고, 저장과 토큰 발급은 후속 작업 풀에서 이어서 한다.
+     * 요청 스레드는 결과를 기다리지 않고 반환된다.
+     * 해싱 동안 커넥션을 붙잡지 않도록 트랜잭션은 리포지토리 호출 단위로만 연다.
+     */
+    public CompletableFuture<SignupResponse> signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 대부분의 가입 이메일은 새 이메일이므로, Bloom filter 가 "확실히 없음" 이라고 하면 조회를 생략한다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
-
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
-        User newUser = new User(
-                signupRequest.getEmail(),
-                encodedPassword,
-                userRole
-        );
-        User savedUser = userRepository.save(newUser);
+        return asyncPasswordEncoder.encode(signupRequest.getPassword()).thenApplyAsync(encodedPassword -> {
+            User newUser = new User(
+                    signupRequest.getEmail(),
+                    encodedPassword,
+                    userRole
+            );
+            // 동시 가입이나 조회를 생략한 경우의 중복은 유니크 제약이 최종적으로 막는다.
+            User savedUser;
+            try {
+                savedUser = userRepository.saveAndFlush(newUser);
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateEmail(e)) {
+                    throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+                }
+                throw e;
+            }
+            emailBloomFilter.put(savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+            String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
-        return new SignupResponse(bearerToken);
+            return new SignupResponse(bearerToken);
+        }, asyncPasswordEncoder.continuationExecutor());
     }
 
-    @Transactional(readOnly = true)
-    public SigninResponse signin(SigninRequest signinRequest) {
+    public CompletableFuture<SigninResponse> signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
-        // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
-        }
+        return asyncPasswordEncoder.matches(signinRequest.getPassword(), user.getPassword()).thenApplyAsync(matched -> {
+            // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
+            if (!matched) {
+                throw new AuthException("잘못된 비밀번호입니다.");
+            }
+            rehashIfNeeded(user, signinRequest.getPassword());
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+            String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+
+            return new SigninResponse(bearerToken);
+        }, asyncPasswordEncoder.continuationExecutor());
+    }
+
+    /**
+     * 평문 비밀번호를 알 수 있는 건 로그인 때뿐이므로, 저장된 해시의 cost 가 현재 목표보다 낮으면 이때 다시 해싱한다.
+     * 로그인 응답은 기다리지 않고, 해싱 풀이 바쁘면 다음 로그인으로 미룬다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!asyncPasswordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        asyncPasswordEncoder.tryEncode(rawPassword).ifPresent(rehashing -> rehashing
+                .thenAcceptAsync(newPassword ->
+                        userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newPassword),
+                        asyncPasswordEncoder.continuationExecutor())
+                .exceptionally(e -> {
+                    log.warn("비밀번호 재해싱 결과를 저장하지 못했습니다. userId: {}", user.getId(), e);
+                    return null;
+                }));
+    }
 
-        return new SigninResponse(bearerToken);
+    // NOT NULL, 길이 위반 같은 다른 무결성 오류까지 중복 이메일로 알리지 않도록 email 유니크 제약 위반만 골라낸다.
+    private boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintKind.UNIQUE
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
     }
 }
@@ -1,9 +1,17 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,4 +24,23 @@ public class CommentAdminController {
   public void deleteComment(@PathVariable long commentId) {
     commentAdminService.deleteComment(commentId);
   }
+
+  @PostMapping("/admin/comments/bulk-delete")
+  public CommentBulkDeleteResponse deleteComments(
+          @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+    return commentAdminService.deleteComments(commentBulkDeleteRequest);
+  }
+
+  @DeleteMapping(value = "/admin/comments", params = "userId")
+  public CommentBulkDeleteResponse deleteCommentsByUser(@RequestParam long userId) {
+    return commentAdminService.deleteCommentsByUser(userId);
+  }
+
+  @DeleteMapping(value = "/admin/comments", params = "todoId")
+  public CommentBulkDeleteResponse deleteCommentsByTodo(
+          @RequestParam long todoId,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+    return commentAdminService.deleteCommentsByTodo(todoId, from, to);
+  }
 }
@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.dto.AdminAuditable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest implements AdminAuditable {
+
+    @NotEmpty
+    @Size(max = 1000, message = "한 번에 삭제할 수 있는 댓글은 최대 1000개입니다.")
+    private List<Long> commentIds;
+
+    @Override
+    public String auditSummary() {
+        return "commentIds=" + commentIds.size() + "건";
+    }
+}
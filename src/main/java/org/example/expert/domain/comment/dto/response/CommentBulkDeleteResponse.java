@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AdminAuditable;
+
+@Getter
+public class CommentBulkDeleteResponse implements AdminAuditable {
+
+    private final int deletedCount;
+
+    public CommentBulkDeleteResponse(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+
+    @Override
+    public String auditSummary() {
+        return "deletedCount=" + deletedCount;
+    }
+}
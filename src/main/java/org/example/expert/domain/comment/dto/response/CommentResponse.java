@@ -3,16 +3,25 @@ package org.example.expert.domain.comment.dto.response;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class CommentResponse {
 
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    private final LocalDateTime createdAt;
 
-    public CommentResponse(Long id, String contents, UserResponse user) {
+    public CommentResponse(Long id, String contents, UserResponse user, LocalDateTime createdAt) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.createdAt = createdAt;
+    }
+
+    // JPQL constructor expression용 생성자
+    public CommentResponse(Long id, String contents, Long userId, String email, LocalDateTime createdAt) {
+        this(id, contents, new UserResponse(userId, email), createdAt);
     }
 }
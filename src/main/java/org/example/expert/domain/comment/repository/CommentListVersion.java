@@ -0,0 +1,11 @@
+package org.example.expert.domain.comment.repository;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록의 조건부 조회용 projection
+public interface CommentListVersion {
+
+    long getCount();
+
+    LocalDateTime getLastModifiedAt();
+}
@@ -1,14 +1,56 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    String COMMENT_RESPONSE_SELECT = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse("
+            + "c.id, c.contents, u.id, u.email, c.createdAt)"
+            + " FROM Comment c JOIN c.user u";
+
+    // (todo_id, created_at, id) 인덱스의 앞부분부터 limit 만큼 범위 탐색
+    @Query(COMMENT_RESPONSE_SELECT + " WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstSlice(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_SELECT
+            + " WHERE c.todo.id = :todoId"
+            + " AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))"
+            + " ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findSliceAfter(@Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // (todo_id, modified_at) 인덱스만 읽고 끝나는 버전 조회
+    @Query("SELECT COUNT(c) AS count, MAX(c.modifiedAt) AS lastModifiedAt FROM Comment c WHERE c.todo.id = :todoId")
+    CommentListVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    // 댓글 엔티티를 하나씩 읽어 지우지 않고 한 번의 DELETE 로 처리
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int bulkDeleteByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int bulkDeleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // user_id 외래키 인덱스를 탄다
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.user.id = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
+
+    // (todo_id, created_at, id) 인덱스 범위 탐색
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId"
+            + " AND c.createdAt >= :from AND c.createdAt < :to")
+    int bulkDeleteByTodoIdAndCreatedAtBetween(@Param("todoId") Long todoId,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -1,8 +1,13 @@
 package org.example.expert.domain.comment.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.annotation.Admin;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +20,31 @@ public class CommentAdminService {
   @Admin
   @Transactional
   public void deleteComment(long commentId) {
-    commentRepository.deleteById(commentId);
+    commentRepository.bulkDeleteByIdIn(List.of(commentId));
+  }
+
+  @Admin
+  @Transactional
+  public CommentBulkDeleteResponse deleteComments(CommentBulkDeleteRequest commentBulkDeleteRequest) {
+    int deletedCount = commentRepository.bulkDeleteByIdIn(
+            commentBulkDeleteRequest.getCommentIds().stream().distinct().toList());
+    return new CommentBulkDeleteResponse(deletedCount);
+  }
+
+  @Admin
+  @Transactional
+  public CommentBulkDeleteResponse deleteCommentsByUser(long userId) {
+    return new CommentBulkDeleteResponse(commentRepository.bulkDeleteByUserId(userId));
+  }
+
+  @Admin
+  @Transactional
+  public CommentBulkDeleteResponse deleteCommentsByTodo(long todoId, LocalDateTime from,
+          LocalDateTime to) {
+    if (!from.isBefore(to)) {
+      throw new InvalidRequestException("from은 to보다 이전이어야 합니다.");
+    }
+    return new CommentBulkDeleteResponse(
+            commentRepository.bulkDeleteByTodoIdAndCreatedAtBetween(todoId, from, to));
   }
 }
@@ -0,0 +1,245 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 쓰기를 모아서 한 트랜잭션으로 커밋하는 group commit 기록기. (comment.group-commit.enabled=true 일 때만 동작)
+ * 요청은 제한된 크기의 큐에 쌓이고, 전용 스레드가 최대 건수 또는 최대 대기 시간 중 먼저 도달한 시점에
+ * 모인 댓글을 JDBC 배치 insert 로 저장한다. 각 요청의 future 는 해당 묶음이 커밋된 뒤에 완료된다.
+ * await-timeout 안에 큐에서 꺼내지지 않은 댓글은 큐에서 빼낸 뒤 TimeoutException 으로 완료하므로 저장되지 않으며,
+ * 이미 묶음에 들어간 댓글은 그 묶음의 커밋 결과를 끝까지 기다린다.
+ */
+@Slf4j
+@Component
+public class CommentGroupCommitter {
+
+    private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Duration awaitTimeout;
+    private final BlockingQueue<PendingComment> queue;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CommentGroupCommitter(
+            CommentRepository commentRepository,
+            TodoRepository todoRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${comment.group-commit.enabled:false}") boolean enabled,
+            @Value("${comment.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${comment.group-commit.max-batch-size:200}") int maxBatchSize,
+            @Value("${comment.group-commit.max-delay:5ms}") Duration maxDelay,
+            @Value("${comment.group-commit.await-timeout:5s}") Duration awaitTimeout
+    ) {
+        this.commentRepository = commentRepository;
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.awaitTimeout = awaitTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizeSummary = DistributionSummary.builder("comment.group-commit.batch.size")
+                .register(meterRegistry);
+        meterRegistry.gauge("comment.group-commit.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "comment-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 새 요청은 받지 않고, 이미 큐에 들어온 댓글은 모두 커밋한 뒤 종료. 그래도 남은 댓글은 실패로 완료한다.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingComment> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            log.warn("종료 시점까지 커밋되지 않은 댓글을 실패로 완료합니다. 건수: {}", leftovers.size());
+            leftovers.forEach(pending -> pending.result().completeExceptionally(shuttingDown()));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 댓글을 큐에 넣고, 커밋되면 저장된 댓글로 완료되는 future 를 돌려준다.
+     * 큐가 가득 차면 기다리지 않고 바로 거절한다.
+     */
+    public CompletableFuture<Comment> submit(String contents, User user, long todoId) {
+        PendingComment pending = new PendingComment(contents, user, todoId, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceUnavailableException("댓글 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 넣는 사이에 종료가 시작되어 flusher 가 이미 빠져나갔다면, 아무도 꺼내지 않으므로 직접 회수한다.
+        if (!running && queue.remove(pending)) {
+            throw shuttingDown();
+        }
+        // 큐에서 직접 빼낸 경우에만 실패로 완료해, 시간 초과로 알린 댓글이 나중에 커밋되는 일이 없도록 한다.
+        CompletableFuture.delayedExecutor(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (!pending.result().isDone() && queue.remove(pending)) {
+                pending.result().completeExceptionally(new TimeoutException());
+            }
+        });
+        return pending.result();
+    }
+
+    private void runFlusher() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            // Error 가 나도 flusher 는 살아남아야 이후 요청이 멈추지 않는다.
+            try {
+                flush(batch);
+            } catch (Throwable e) {
+                log.error("댓글 묶음 커밋 중 예상하지 못한 오류가 발생했습니다. 건수: {}", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 댓글을 기다린 뒤, maxBatchSize 가 차거나 maxDelay 가 지날 때까지 모은다.
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingComment> pendings) {
+        batchSizeSummary.record(pendings.size());
+        List<PendingComment> batch;
+        try {
+            batch = rejectMissingTodos(pendings);
+        } catch (RuntimeException e) {
+            pendings.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Comment> saved = transactionTemplate.execute(status -> save(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 한 건 때문에 묶음 전체가 실패하지 않도록 건별 트랜잭션으로 다시 시도
+            log.warn("댓글 묶음 커밋 실패, 건별로 재시도합니다. 건수: {}", batch.size(), e);
+            for (PendingComment pending : batch) {
+                try {
+                    List<Comment> saved = transactionTemplate.execute(status -> save(List.of(pending)));
+                    pending.result().complete(saved.get(0));
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    // 요청마다 하던 일정 존재 확인을 묶음당 IN 쿼리 한 번으로 하고, 없는 일정의 댓글은 바로 실패로 완료한다.
+    private List<PendingComment> rejectMissingTodos(List<PendingComment> batch) {
+        Set<Long> todoIds = batch.stream().map(PendingComment::todoId).collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(todoRepository.findIdsByIdIn(todoIds));
+        if (existing.size() == todoIds.size()) {
+            return batch;
+        }
+
+        List<PendingComment> valid = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            if (existing.contains(pending.todoId())) {
+                valid.add(pending);
+            } else {
+                pending.result().completeExceptionally(new InvalidRequestException("Todo not found"));
+            }
+        }
+        return valid;
+    }
+
+    private List<Comment> save(List<PendingComment> batch) {
+        List<Comment> comments = batch.stream()
+                .map(pending -> new Comment(
+                        pending.contents(),
+                        pending.user(),
+                        todoRepository.getReferenceById(pending.todoId())
+                ))
+                .toList();
+        return commentRepository.saveAll(comments);
+    }
+
+    private ServiceUnavailableException shuttingDown() {
+        return new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private record PendingComment(String contents, User user, long todoId, CompletableFuture<Comment> result) {
+    }
+}
@@ -5,61 +5,152 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentListVersion;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.stream.CommentStreamBroadcaster;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 재연결 시 한 번에 다시 보내는 최대 댓글 수. 그보다 많이 놓쳤다면 reset 이벤트를 보내 목록 조회로 따라잡게 한다.
+    private static final int MAX_REPLAY_SIZE = 1000;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final CommentGroupCommitter commentGroupCommitter;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentStreamBroadcaster commentStreamBroadcaster;
 
-    @Transactional
+    // 커밋을 기다리는 동안 커넥션을 붙잡지 않도록 메서드 전체를 트랜잭션으로 감싸지 않는다.
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
 
-        Comment newComment = new Comment(
-                commentSaveRequest.getContents(),
-                user,
-                todo
-        );
+        Comment savedComment;
+        if (commentGroupCommitter.isEnabled()) {
+            // 일정 존재 확인까지 flusher 가 묶음 단위로 하므로, 요청 스레드는 DB 를 전혀 쓰지 않고
+            // open-in-view 가 켜져 있어도 커밋을 기다리는 동안 커넥션을 붙잡지 않는다.
+            savedComment = awaitGroupCommit(commentGroupCommitter.submit(commentSaveRequest.getContents(), user, todoId));
+        } else {
+            if (!todoRepository.existsById(todoId)) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            savedComment = transactionTemplate.execute(status -> commentRepository.save(new Comment(
+                    commentSaveRequest.getContents(),
+                    user,
+                    // 존재만 확인하고 일정 엔티티는 읽지 않은 채 참조로 연결
+                    todoRepository.getReferenceById(todoId)
+            )));
+        }
 
-        Comment savedComment = commentRepository.save(newComment);
+        // 커밋이 끝난 댓글만 스트림 구독자에게 퍼뜨린다.
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        commentStreamBroadcaster.publish(todoId, new CommentResponse(
+                savedComment.getId(),
+                savedComment.getContents(),
+                userResponse,
+                savedComment.getCreatedAt()
+        ));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                userResponse
         );
     }
 
+    /**
+     * 새 댓글을 SSE 로 받는다. Last-Event-ID 가 있으면 그 이후에 저장된 댓글만 먼저 보내준다.
+     * 구독을 먼저 등록한 뒤 놓친 댓글을 읽으므로 그 사이 저장된 댓글이 빠지지 않는다. (중복은 이벤트 id 로 거를 수 있다)
+     */
+    public SseEmitter streamComments(long todoId, String lastEventId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        KeysetCursor resumeFrom = lastEventId == null || lastEventId.isBlank()
+                ? null
+                : KeysetCursor.decode(lastEventId);
+
+        SseEmitter emitter = commentStreamBroadcaster.subscribe(todoId);
+        if (resumeFrom != null) {
+            List<CommentResponse> missed = commentRepository.findSliceAfter(todoId,
+                    resumeFrom.getTimestamp(), resumeFrom.getId(), PageRequest.of(0, MAX_REPLAY_SIZE + 1));
+            if (missed.size() > MAX_REPLAY_SIZE) {
+                commentStreamBroadcaster.reset(emitter);
+            } else {
+                commentStreamBroadcaster.replay(emitter, missed);
+            }
+        }
+        return emitter;
+    }
+
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new InvalidRequestException("size는 1 이상 100 이하여야 합니다.");
+        }
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstSlice(todoId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findSliceAfter(
+                    todoId, keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> content = hasNext ? comments.subList(0, size) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentsVersion(long todoId) {
+        CommentListVersion version = commentRepository.findVersionByTodoId(todoId);
+        return ResourceVersion.ofCollection(version.getCount(), version.getLastModifiedAt());
+    }
+
+    private Comment awaitGroupCommit(CompletableFuture<Comment> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 큐에서 꺼내지기 전에 빠진 댓글이므로 저장되지 않았고, 다시 시도해도 중복되지 않는다.
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ServiceUnavailableException("댓글 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("댓글 저장에 실패했습니다.");
         }
-        return dtoList;
     }
 }
@@ -0,0 +1,139 @@
+package org.example.expert.domain.comment.stream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 일정별 댓글 SSE 구독자를 관리하고, 커밋된 댓글을 구독자에게 한 번에 퍼뜨린다.
+ * SseEmitter 는 비동기 요청이라 대기 중인 구독자가 요청 스레드를 붙잡지 않으며,
+ * 전송과 heartbeat 는 전용 스레드 하나에서 처리해 느린 구독자가 댓글을 저장한 요청이나
+ * 다른 스케줄 작업을 늦추지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class CommentStreamBroadcaster {
+
+    private static final String EVENT_NAME = "comment";
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long timeoutMillis;
+
+    public CommentStreamBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${comment.stream.timeout:30m}") Duration timeout,
+            @Value("${comment.stream.heartbeat-ms:15000}") long heartbeatMillis
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        meterRegistry.gauge("comment.stream.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+        sender.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long todoId) {
+        SseEmitter emitter = createEmitter();
+        // 추가를 맵 연산 안에서 해야, 마지막 구독자가 빠지며 집합이 지워지는 unsubscribe 와 엇갈려도 유실되지 않는다.
+        subscribers.compute(todoId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters == null ? new CopyOnWriteArraySet<>() : emitters;
+            target.add(emitter);
+            return target;
+        });
+
+        Runnable remove = () -> unsubscribe(todoId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    // 재연결한 구독자에게 놓친 댓글을 보낸다.
+    public void replay(SseEmitter emitter, List<CommentResponse> missed) {
+        for (CommentResponse comment : missed) {
+            if (!send(emitter, comment)) {
+                return;
+            }
+        }
+    }
+
+    // 다시 보낼 수 있는 범위보다 많이 놓친 구독자에게 알린다. 클라이언트는 목록을 다시 조회하고 Last-Event-ID 없이 재연결한다.
+    public void reset(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name(RESET_EVENT_NAME).data("too-far-behind"));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    public void publish(long todoId, CommentResponse comment) {
+        Set<SseEmitter> emitters = subscribers.get(todoId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> emitters.forEach(emitter -> send(emitter, comment)));
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 전송 스레드에서 주기적으로 주석 이벤트를 보낸다.
+    void heartbeat() {
+        subscribers.values().forEach(emitters -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | RuntimeException e) {
+                // 예외가 밖으로 나가면 주기 작업이 조용히 멈추므로 여기서 구독만 정리한다.
+                emitter.completeWithError(e);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private boolean send(SseEmitter emitter, CommentResponse comment) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode())
+                    .name(EVENT_NAME)
+                    .data(comment, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("댓글 스트림 전송 실패, 구독을 해제합니다.", e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(long todoId, SseEmitter emitter) {
+        subscribers.computeIfPresent(todoId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.common.dto;
+
+/**
+ * 관리자 감사 로그에 전체 내용 대신 요약만 남길 요청/응답 객체.
+ */
+public interface AdminAuditable {
+
+  String auditSummary();
+}
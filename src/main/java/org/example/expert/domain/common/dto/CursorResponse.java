@@ -0,0 +1,16 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+/**
+ * 여러 id 를 한 번에 조회한 결과. content 는 요청한 id 순서를 따르고, 찾지 못한 id 는 missingIds 로 알려준다.
+ */
+@Getter
+public class MultiGetResponse<T> {
+
+    public static final int MAX_IDS = 100;
+
+    private final List<T> content;
+    private final List<Long> missingIds;
+
+    public MultiGetResponse(List<T> content, List<Long> missingIds) {
+        this.content = content;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * 요청 순서를 유지한 채 중복을 제거한다. IN 절이 커지지 않도록 최대 {@value #MAX_IDS}개로 제한한다.
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        LinkedHashSet<Long> distinct = ids == null ? new LinkedHashSet<>() : new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS) {
+            throw new InvalidRequestException("ids는 1개 이상 " + MAX_IDS + "개 이하여야 합니다.");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    public static <T> MultiGetResponse<T> of(List<Long> ids, Map<Long, T> found) {
+        List<T> content = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T value = found.get(id);
+            if (value == null) {
+                missingIds.add(id);
+            } else {
+                content.add(value);
+            }
+        }
+        return new MultiGetResponse<>(content, missingIds);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.common.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import lombok.Getter;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since)에 쓰는 리소스 버전.
+ * 본문 전체를 읽지 않고 modifiedAt(목록은 건수와 최신 modifiedAt)만으로 ETag 와 Last-Modified 를 만든다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final String eTag;
+    private final long lastModified;
+
+    private ResourceVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(long id, LocalDateTime modifiedAt) {
+        return new ResourceVersion(weakETag(id + "-" + toMicros(modifiedAt)), toMillis(modifiedAt));
+    }
+
+    // 목록은 건수가 함께 바뀌어야 삭제도 감지된다.
+    public static ResourceVersion ofCollection(long count, LocalDateTime lastModifiedAt) {
+        return new ResourceVersion(weakETag(count + "-" + toMicros(lastModifiedAt)), toMillis(lastModifiedAt));
+    }
+
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 / 메모리 색인처럼 DB 밖의 상태를 트랜잭션 결과에 맞춰 바꿀 때 쓴다.
+ * 트랜잭션 안이면 커밋 이후에만 실행되어 롤백된 변경이 남지 않고, 트랜잭션 밖이면 바로 실행된다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 캐시 무효화용. 지금 한 번, 커밋 이후에 한 번 더 실행해 커밋 전에 다시 채워진 오래된 값이 남지 않도록 한다.
+    public static void runNowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchSaveRequest {
+
+    @NotEmpty
+    @Size(max = 100, message = "한 번에 등록할 수 있는 담당자는 최대 100명입니다.")
+    private List<@NotNull Long> managerUserIds; // 일정 작성자가 배치하는 유저 id 목록
+}
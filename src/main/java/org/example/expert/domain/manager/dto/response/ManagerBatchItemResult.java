@@ -0,0 +1,31 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+@Getter
+public class ManagerBatchItemResult {
+
+    private final Long managerUserId;
+    private final Long id;
+    private final UserResponse user;
+    private final boolean success;
+    private final String message;
+
+    private ManagerBatchItemResult(Long managerUserId, Long id, UserResponse user, boolean success,
+            String message) {
+        this.managerUserId = managerUserId;
+        this.id = id;
+        this.user = user;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static ManagerBatchItemResult created(Long id, UserResponse user) {
+        return new ManagerBatchItemResult(user.getId(), id, user, true, null);
+    }
+
+    public static ManagerBatchItemResult skipped(Long managerUserId, String message) {
+        return new ManagerBatchItemResult(managerUserId, null, null, false, message);
+    }
+}
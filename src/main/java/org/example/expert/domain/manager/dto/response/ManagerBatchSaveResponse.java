@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ManagerBatchSaveResponse {
+
+    private final int succeeded;
+    private final int skipped;
+    private final List<ManagerBatchItemResult> results;
+
+    public ManagerBatchSaveResponse(List<ManagerBatchItemResult> results) {
+        this.succeeded = (int) results.stream().filter(ManagerBatchItemResult::isSuccess).count();
+        this.skipped = results.size() - succeeded;
+        this.results = results;
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.expert.domain.manager.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.manager.repository.ManagerMembership;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 id -> 담당 중인 일정 id 의 역방향 색인.
+ * 유저마다 정렬된 long[] 하나만 두어 박싱 없이 보관하고, 변경 시에는 배열을 새로 만들어 교체하므로
+ * 조회는 잠금 없이 이진 탐색으로 keyset 페이지를 잘라낸다.
+ * 기동 시 {@link ManagedTodoIndexLoader} 가 채우기 전(또는 비활성화 시)에는 {@link #isReady()} 가 false 이며,
+ * 호출자는 DB 로 조회해야 한다.
+ */
+@Component
+public class ManagedTodoIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final boolean enabled;
+
+    private volatile Map<Long, long[]> todoIdsByUser = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // 적재 중에 커밋된 변경. 적재가 끝나면 스냅샷 위에 순서대로 다시 적용한다.
+    private boolean loading;
+    private final List<Change> pendingChanges = new ArrayList<>();
+
+    public ManagedTodoIndex(
+            @Value("${manager.reverse-index.enabled:true}") boolean enabled,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        Gauge.builder("manager.reverse-index.users", this, ManagedTodoIndex::userCount)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * afterTodoId 보다 큰 일정 id 를 오름차순으로 최대 limit 개 돌려준다.
+     */
+    public List<Long> findTodoIds(long userId, long afterTodoId, int limit) {
+        long[] todoIds = todoIdsByUser.getOrDefault(userId, EMPTY);
+        int from = Arrays.binarySearch(todoIds, afterTodoId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        int to = (int) Math.min(todoIds.length, (long) from + limit);
+
+        List<Long> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add(todoIds[i]);
+        }
+        return page;
+    }
+
+    public void addAfterCommit(long userId, long todoId) {
+        AfterCommit.run(() -> add(userId, todoId));
+    }
+
+    public void add(long userId, long todoId) {
+        apply(new Change(userId, todoId, true));
+    }
+
+    public void remove(long userId, long todoId) {
+        apply(new Change(userId, todoId, false));
+    }
+
+    /**
+     * 담당자 (userId, todoId) 스트림으로 색인을 새로 만든다.
+     * 적재하는 동안 들어온 변경은 기록해 두었다가 새 색인에 반영한 뒤 교체한다.
+     */
+    public void rebuild(Stream<ManagerMembership> memberships) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            loading = true;
+            pendingChanges.clear();
+        }
+
+        Map<Long, LongBuffer> buffers = new HashMap<>();
+        memberships.forEach(membership -> buffers
+                .computeIfAbsent(membership.getUserId(), userId -> new LongBuffer())
+                .add(membership.getTodoId()));
+
+        Map<Long, long[]> rebuilt = new ConcurrentHashMap<>(Math.max(16, buffers.size() * 4 / 3 + 1));
+        buffers.forEach((userId, buffer) -> rebuilt.put(userId, buffer.toSortedDistinctArray()));
+
+        synchronized (this) {
+            for (Change change : pendingChanges) {
+                change.applyTo(rebuilt);
+            }
+            pendingChanges.clear();
+            loading = false;
+            todoIdsByUser = rebuilt;
+            ready = true;
+        }
+    }
+
+    public int userCount() {
+        return todoIdsByUser.size();
+    }
+
+    private synchronized void apply(Change change) {
+        if (!enabled) {
+            return;
+        }
+        if (loading) {
+            pendingChanges.add(change);
+        }
+        change.applyTo(todoIdsByUser);
+    }
+
+    private record Change(long userId, long todoId, boolean add) {
+
+        void applyTo(Map<Long, long[]> target) {
+            long[] current = target.getOrDefault(userId, EMPTY);
+            int position = Arrays.binarySearch(current, todoId);
+            if (add && position < 0) {
+                int insertAt = -position - 1;
+                long[] next = new long[current.length + 1];
+                System.arraycopy(current, 0, next, 0, insertAt);
+                next[insertAt] = todoId;
+                System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+                target.put(userId, next);
+            } else if (!add && position >= 0) {
+                if (current.length == 1) {
+                    target.remove(userId);
+                    return;
+                }
+                long[] next = new long[current.length - 1];
+                System.arraycopy(current, 0, next, 0, position);
+                System.arraycopy(current, position + 1, next, position, current.length - position - 1);
+                target.put(userId, next);
+            }
+        }
+    }
+
+    private static final class LongBuffer {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedDistinctArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
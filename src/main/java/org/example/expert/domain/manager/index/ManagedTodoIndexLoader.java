@@ -0,0 +1,80 @@
+package org.example.expert.domain.manager.index;
+
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.manager.repository.ManagerMembership;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 애플리케이션 기동 시 managers 테이블을 한 번 스트리밍하며 담당 일정 역방향 색인을 채운다.
+ * 이후의 변경은 담당자/일정 저장·삭제 경로에서 커밋 후 색인에 반영되고,
+ * 동시 변경으로 어긋난 항목이 남지 않도록 주기적으로 전체를 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ManagedTodoIndexLoader {
+
+    private final ManagerRepository managerRepository;
+    private final ManagedTodoIndex managedTodoIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!managedTodoIndex.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<ManagerMembership> memberships = managerRepository.streamMemberships()) {
+                managedTodoIndex.rebuild(memberships);
+            }
+        });
+
+        log.info("담당 일정 색인 구성 완료. 유저 수: {}, 소요 시간: {}ms",
+                managedTodoIndex.userCount(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Scheduled(cron = "${manager.reverse-index.rebuild-cron:0 30 4 * * *}")
+    public void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("담당 일정 색인 재적재에 실패했습니다. 기존 색인을 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 담당자 삭제 후 호출한다. 커밋된 뒤 새 트랜잭션에서 (userId, todoId) 행이 남아 있는지 확인해 색인을 맞춘다.
+     * 삭제 트랜잭션 안에서 확인하면 동시에 지워지는 중복 행끼리 서로의 행을 보고 둘 다 색인에 남기거나,
+     * 동시 등록의 커밋 후 추가보다 늦게 빼서 색인에서 사라진다.
+     */
+    public void syncAfterCommit(long userId, long todoId) {
+        if (!managedTodoIndex.isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            if (Boolean.TRUE.equals(readOnly.execute(
+                    status -> managerRepository.existsByUserIdAndTodoId(userId, todoId)))) {
+                managedTodoIndex.add(userId, todoId);
+            } else {
+                managedTodoIndex.remove(userId, todoId);
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.repository;
+
+// 담당 일정 색인 적재용 projection
+public interface ManagerMembership {
+
+    Long getUserId();
+
+    Long getTodoId();
+}
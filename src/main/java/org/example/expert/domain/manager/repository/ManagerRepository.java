@@ -1,13 +1,49 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.manager.entity.Manager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int bulkDeleteByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId")
+    int bulkDeleteById(@Param("managerId") Long managerId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId,
+            @Param("userIds") Collection<Long> userIds);
+
+    // (user_id, todo_id) 인덱스만 읽는 keyset 조회. 같은 유저가 중복 등록된 경우를 위해 DISTINCT
+    @Query("SELECT DISTINCT m.todo.id FROM Manager m"
+            + " WHERE m.user.id = :userId AND m.todo.id > :afterTodoId"
+            + " ORDER BY m.todo.id")
+    List<Long> findManagedTodoIds(@Param("userId") Long userId,
+            @Param("afterTodoId") Long afterTodoId, Pageable pageable);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    boolean existsByUserIdAndTodoId(Long userId, Long todoId);
+
+    // 담당 일정 색인 재구성용. 전체를 메모리에 올리지 않도록 fetch size 단위로 스트리밍한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.user.id AS userId, m.todo.id AS todoId FROM Manager m")
+    Stream<ManagerMembership> streamMemberships();
 }
@@ -1,20 +1,38 @@
 package org.example.expert.domain.manager.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchItemResult;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.manager.index.ManagedTodoIndexLoader;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.ManagerAssignmentAccess;
+import org.example.expert.domain.todo.repository.ManagerRemovalAccess;
+import org.example.expert.domain.todo.repository.TodoAccessRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
@@ -26,36 +44,107 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoAccessRepository todoAccessRepository;
+    private final ManagedTodoIndex managedTodoIndex;
+    private final ManagedTodoIndexLoader managedTodoIndexLoader;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId,
             ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        Long managerUserId = managerSaveRequest.getManagerUserId();
+
+        // 일정 존재, 작성자, 담당자 유저 존재를 한 번에 확인
+        ManagerAssignmentAccess access = todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(),
-                todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), access.getOwnerId())) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+        if (access.getManagerUserId() == null) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        }
 
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        if (ObjectUtils.nullSafeEquals(user.getId(), access.getManagerUserId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 이미 확인했으므로 엔티티를 다시 읽지 않고 참조(proxy)만 연결
+        Manager newManagerUser = new Manager(
+                userRepository.getReferenceById(access.getManagerUserId()),
+                todoRepository.getReferenceById(todoId)
+        );
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        managedTodoIndex.addAfterCommit(access.getManagerUserId(), todoId);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
+                new UserResponse(access.getManagerUserId(), access.getManagerEmail())
         );
     }
 
+    /**
+     * 여러 담당자를 한 번에 등록한다.
+     * 유저는 IN 쿼리 한 번으로 확인하고, 이미 등록됐거나 요청 안에서 중복된 유저는 건너뛴 뒤
+     * 나머지를 saveAll 로 저장해 JDBC 배치 insert 로 처리한다.
+     */
+    @Transactional
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, long todoId,
+            ManagerBatchSaveRequest managerBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<Long> managerUserIds = managerBatchSaveRequest.getManagerUserIds();
+
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(managerUserIds);
+        Map<Long, UserResponse> users = new HashMap<>();
+        for (UserResponse found : userRepository.findUserResponsesByIdIn(distinctIds)) {
+            users.put(found.getId(), found);
+        }
+        Set<Long> alreadyAssigned = new HashSet<>(
+                managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, distinctIds));
+
+        ManagerBatchItemResult[] results = new ManagerBatchItemResult[managerUserIds.size()];
+        List<Integer> newIndexes = new ArrayList<>();
+        List<Manager> newManagers = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int index = 0; index < managerUserIds.size(); index++) {
+            Long managerUserId = managerUserIds.get(index);
+            if (!seen.add(managerUserId)) {
+                results[index] = ManagerBatchItemResult.skipped(managerUserId, "요청에 중복된 유저입니다.");
+            } else if (!users.containsKey(managerUserId)) {
+                results[index] = ManagerBatchItemResult.skipped(managerUserId, "등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+            } else if (ObjectUtils.nullSafeEquals(user.getId(), managerUserId)) {
+                results[index] = ManagerBatchItemResult.skipped(managerUserId, "일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+            } else if (alreadyAssigned.contains(managerUserId)) {
+                results[index] = ManagerBatchItemResult.skipped(managerUserId, "이미 등록된 담당자입니다.");
+            } else {
+                newIndexes.add(index);
+                newManagers.add(new Manager(
+                        userRepository.getReferenceById(managerUserId),
+                        todoRepository.getReferenceById(todoId)
+                ));
+            }
+        }
+
+        List<Manager> savedManagers = managerRepository.saveAll(newManagers);
+        for (int i = 0; i < newIndexes.size(); i++) {
+            int index = newIndexes.get(i);
+            results[index] = ManagerBatchItemResult.created(
+                    savedManagers.get(i).getId(), users.get(managerUserIds.get(index)));
+            managedTodoIndex.addAfterCommit(managerUserIds.get(index), todoId);
+        }
+
+        return new ManagerBatchSaveResponse(Arrays.asList(results));
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
@@ -76,24 +165,63 @@ public class ManagerService {
 
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
+        ManagerRemovalAccess access = todoAccessRepository.findManagerRemovalAccess(userId, todoId, managerId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (access.getTodoId() == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(),
-                todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(userId, access.getOwnerId())) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        if (access.getManagerId() == null) {
+            throw new InvalidRequestException("Manager not found");
+        }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        if (!ObjectUtils.nullSafeEquals(todoId, access.getManagerTodoId())) {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
-        managerRepository.delete(manager);
+        managerRepository.bulkDeleteById(managerId);
+
+        // 같은 유저가 중복 등록돼 있었을 수 있으므로 커밋 후 남은 행을 보고 색인을 맞춘다
+        managedTodoIndexLoader.syncAfterCommit(access.getManagerUserId(), todoId);
+    }
+
+    /**
+     * 로그인한 유저가 담당 중인 일정을 일정 id 오름차순 keyset 으로 조회한다.
+     * 역방향 색인이 준비돼 있으면 색인에서, 아니면 (user_id, todo_id) 인덱스로 id 만 잘라낸 뒤
+     * 일정 응답은 IN 쿼리 한 번으로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoResponse> getManagedTodos(AuthUser authUser, Long cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new InvalidRequestException("size는 1 이상 100 이하여야 합니다.");
+        }
+        long afterTodoId = cursor == null ? 0L : cursor;
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회
+        List<Long> todoIds = managedTodoIndex.isReady()
+                ? managedTodoIndex.findTodoIds(authUser.getId(), afterTodoId, size + 1)
+                : managerRepository.findManagedTodoIds(authUser.getId(), afterTodoId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = todoIds.size() > size;
+        List<Long> pageIds = hasNext ? todoIds.subList(0, size) : todoIds;
+
+        Map<Long, TodoResponse> todos = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            for (TodoResponse todo : todoRepository.findTodoResponsesByIdIn(pageIds)) {
+                todos.put(todo.getId(), todo);
+            }
+        }
+        List<TodoResponse> content = pageIds.stream()
+                .map(todos::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+        return new CursorResponse<>(content, nextCursor);
     }
 }
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 단건 조회 응답 캐시.
+ * Caffeine의 W-TinyLFU 정책으로 접근 빈도를 고려해 축출하며, 크기와 TTL 모두 제한된다.
+ * hit / miss / eviction 수치는 actuator의 cache.* 메트릭(cache=todoDetail)으로 노출된다.
+ */
+@Component
+public class TodoCache {
+
+    private static final String CACHE_NAME = "todoDetail";
+
+    private final Cache<Long, TodoResponse> cache;
+
+    public TodoCache(
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        return cache.get(todoId, loader);
+    }
+
+    // 캐시에 없는 id 만 모아 loader 한 번으로 채운다. loader 가 돌려주지 않은 id 는 결과에서 빠진다.
+    public Map<Long, TodoResponse> getAll(Collection<Long> todoIds,
+            Function<Set<? extends Long>, Map<Long, TodoResponse>> loader) {
+        return cache.getAll(todoIds, loader);
+    }
+
+    public void evict(long todoId) {
+        cache.invalidate(todoId);
+    }
+
+    public void evictAll(Collection<Long> todoIds) {
+        cache.invalidateAll(todoIds);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo 엔티티가 변경되면 {@link TodoCache}를 비운다.
+ * 응답에 담긴 작성자 정보는 id 와 email 뿐이고 email 은 바뀌지 않으므로 User 변경은 지켜보지 않는다.
+ * flush 시점에 한 번, 커밋 이후에 한 번 더 비워 커밋 전에 다시 채워진 오래된 값이 남지 않도록 한다.
+ * JPQL 벌크 연산은 엔티티 콜백을 거치지 않으므로 호출하는 쪽에서 직접 비워야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCacheEvictionListener {
+
+    private final TodoCache todoCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Todo todo) {
+        AfterCommit.runNowAndAfterCommit(() -> todoCache.evict(todo.getId()));
+    }
+}
@@ -1,22 +1,36 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.MultiGetResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +40,67 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoBatchService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedTo
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, weather, modifiedFrom, modifiedTo));
+    }
+
+    @GetMapping(value = "/todos", params = "ids")
+    public ResponseEntity<MultiGetResponse<TodoResponse>> getTodosByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(todoService.getTodosByIds(ids));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // 응답을 버퍼링하지 않고 서블릿 출력 스트림에 바로 흘려보낸다.
+    @GetMapping("/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        todoService.exportTodos(response.getOutputStream());
+    }
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoResponse>> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.searchTodos(q, size));
     }
 
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // 캐시된 응답의 modifiedAt 으로 버전을 만들어, 캐시 hit 이면 DB 를 거치지 않고 304 여부를 판단한다.
+        TodoResponse todo = todoService.getTodo(todoId);
+        ResourceVersion version = ResourceVersion.of(todo.getId(), todo.getModifiedAt());
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(todo);
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    // 개별 항목의 검증 결과는 항목별 결과로 돌려주기 위해 @Valid 를 붙이지 않는다.
+    @NotEmpty
+    @Size(max = 10000, message = "한 번에 등록할 수 있는 일정은 최대 10000개입니다.")
+    private List<TodoSaveRequest> todos;
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBatchItemResult {
+
+    private final int index;
+    private final Long id;
+    private final boolean success;
+    private final String message;
+
+    private TodoBatchItemResult(int index, Long id, boolean success, String message) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static TodoBatchItemResult created(int index, Long id) {
+        return new TodoBatchItemResult(index, id, true, null);
+    }
+
+    public static TodoBatchItemResult failed(int index, String message) {
+        return new TodoBatchItemResult(index, null, false, message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int succeeded;
+    private final int failed;
+    private final List<TodoBatchItemResult> results;
+
+    public TodoBatchSaveResponse(List<TodoBatchItemResult> results) {
+        this.succeeded = (int) results.stream().filter(TodoBatchItemResult::isSuccess).count();
+        this.failed = results.size() - succeeded;
+        this.results = results;
+    }
+}
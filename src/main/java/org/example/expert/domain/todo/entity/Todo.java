@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.cache.TodoCacheEvictionListener;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,14 +16,24 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoCacheEvictionListener.class)
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at, id"),
+        @Index(name = "idx_todos_weather_status_id", columnList = "weather_status, id")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 JDBC insert 배치를 막으므로 pooled 시퀀스로 id 블록을 미리 할당받는다. (Comment, Manager, User 도 동일)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+    private int weatherAttempts;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,6 +49,8 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        // 날씨가 아직 없으면 백그라운드 워커가 채우도록 PENDING 상태로 저장
+        this.weatherStatus = weather == null ? WeatherStatus.PENDING : WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
     }
@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+// 담당자 등록 전 확인용 projection
+public interface ManagerAssignmentAccess {
+
+    Long getOwnerId();
+
+    Long getManagerUserId();
+
+    String getManagerEmail();
+}
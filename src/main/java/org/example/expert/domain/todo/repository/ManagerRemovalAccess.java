@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.repository;
+
+// 담당자 해제 전 확인용 projection
+public interface ManagerRemovalAccess {
+
+    Long getTodoId();
+
+    Long getOwnerId();
+
+    Long getManagerId();
+
+    Long getManagerTodoId();
+
+    Long getManagerUserId();
+}
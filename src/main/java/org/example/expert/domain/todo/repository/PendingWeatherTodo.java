@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+// 날씨 보강 대상 조회용 projection
+public interface PendingWeatherTodo {
+
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.repository;
+
+import java.util.Optional;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 쓰기 전에 필요한 존재 여부 / 작성자 / 담당자 소속 확인을 작업당 projection 쿼리 한 번으로 조회한다.
+ * 엔티티를 읽어 Java 에서 id 를 비교하던 여러 번의 왕복을 대신한다.
+ */
+public interface TodoAccessRepository extends Repository<Todo, Long> {
+
+    // 일정이 없으면 빈 결과, 담당자로 지정할 유저가 없으면 managerUserId 가 null
+    @Query("SELECT t.user.id AS ownerId, u.id AS managerUserId, u.email AS managerEmail"
+            + " FROM Todo t LEFT JOIN User u ON u.id = :managerUserId"
+            + " WHERE t.id = :todoId")
+    Optional<ManagerAssignmentAccess> findManagerAssignmentAccess(@Param("todoId") Long todoId,
+            @Param("managerUserId") Long managerUserId);
+
+    // 요청한 유저가 없으면 빈 결과, 일정/담당자가 없으면 해당 컬럼이 null
+    @Query("SELECT t.id AS todoId, t.user.id AS ownerId, m.id AS managerId, m.todo.id AS managerTodoId,"
+            + " m.user.id AS managerUserId"
+            + " FROM User u"
+            + " LEFT JOIN Todo t ON t.id = :todoId"
+            + " LEFT JOIN Manager m ON m.id = :managerId"
+            + " WHERE u.id = :userId")
+    Optional<ManagerRemovalAccess> findManagerRemovalAccess(@Param("userId") Long userId,
+            @Param("todoId") Long todoId, @Param("managerId") Long managerId);
+}
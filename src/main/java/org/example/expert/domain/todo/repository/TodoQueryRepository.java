@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TodoQueryRepository {
+
+    // null 인 조건은 쿼리에서 빠진다.
+    Page<TodoResponse> findTodoResponses(String weather, LocalDateTime modifiedFrom,
+            LocalDateTime modifiedTo, Pageable pageable);
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * 목록 필터는 들어온 조건만 WHERE 절에 넣어 조건 조합마다 별도의 쿼리를 만든다.
+ * "(:p IS NULL OR ...)" 로 모든 조합을 쿼리 하나가 맡으면 실행 계획도 하나라 인덱스를 안정적으로 고르지 못한다.
+ * 날씨 조건이 있으면 (weather, modified_at, id), 기간 조건만 있으면 (modified_at, id) 인덱스로 범위 탐색한다.
+ */
+@RequiredArgsConstructor
+class TodoQueryRepositoryImpl implements TodoQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TodoResponse> findTodoResponses(String weather, LocalDateTime modifiedFrom,
+            LocalDateTime modifiedTo, Pageable pageable) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (weather != null) {
+            predicates.add("t.weather = :weather");
+            parameters.put("weather", weather);
+        }
+        if (modifiedFrom != null) {
+            predicates.add("t.modifiedAt >= :modifiedFrom");
+            parameters.put("modifiedFrom", modifiedFrom);
+        }
+        if (modifiedTo != null) {
+            predicates.add("t.modifiedAt < :modifiedTo");
+            parameters.put("modifiedTo", modifiedTo);
+        }
+        String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+
+        TypedQuery<TodoResponse> contentQuery = entityManager.createQuery(
+                TodoRepository.TODO_RESPONSE_SELECT + where + " ORDER BY t.modifiedAt DESC, t.id DESC",
+                TodoResponse.class);
+        parameters.forEach(contentQuery::setParameter);
+        contentQuery.setFirstResult((int) pageable.getOffset());
+        contentQuery.setMaxResults(pageable.getPageSize());
+        List<TodoResponse> content = contentQuery.getResultList();
+
+        // 첫 페이지가 다 차지 않은 경우 등 전체 건수를 알 수 있으면 COUNT 를 생략한다.
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> countQuery = entityManager.createQuery(
+                    "SELECT COUNT(t) FROM Todo t" + where, Long.class);
+            parameters.forEach(countQuery::setParameter);
+            return countQuery.getSingleResult();
+        });
+    }
+}
@@ -1,23 +1,86 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoQueryRepository {
 
-  @EntityGraph(attributePaths = "user")
-  @Query("SELECT DISTINCT t FROM Todo t")
-  Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+  // 조회 전용 경로: 엔티티 대신 응답에 필요한 컬럼만 DTO로 바로 조회 (영속성 컨텍스트를 거치지 않음)
+  String TODO_RESPONSE_SELECT = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse("
+          + "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt)"
+          + " FROM Todo t JOIN t.user u";
 
-  @EntityGraph(attributePaths = "user")
-  @Query("SELECT DISTINCT t FROM Todo t WHERE t.id = :todoId")
-  Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+  @Query(TODO_RESPONSE_SELECT + " ORDER BY t.modifiedAt DESC, t.id DESC")
+  List<TodoResponse> findFirstSlice(Pageable pageable);
 
-  int countById(Long todoId);
-}
\ No newline at end of file
+  // (modified_at, id) 인덱스를 타도록 커서 이후 구간을 range 조건으로 탐색
+  @Query(TODO_RESPONSE_SELECT
+          + " WHERE t.modifiedAt < :modifiedAt"
+          + " OR (t.modifiedAt = :modifiedAt AND t.id < :id)"
+          + " ORDER BY t.modifiedAt DESC, t.id DESC")
+  List<TodoResponse> findSliceAfter(@Param("modifiedAt") LocalDateTime modifiedAt,
+          @Param("id") Long id, Pageable pageable);
+
+  @Query(TODO_RESPONSE_SELECT + " WHERE t.id = :todoId")
+  Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+  @Query(TODO_RESPONSE_SELECT + " WHERE t.id IN :todoIds")
+  List<TodoResponse> findTodoResponsesByIdIn(@Param("todoIds") List<Long> todoIds);
+
+  // 내보내기용. PK 범위 탐색으로 afterId 다음부터 한 묶음씩 읽는다.
+  @Query(TODO_RESPONSE_SELECT + " WHERE t.id > :afterId ORDER BY t.id")
+  List<TodoResponse> findExportChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  // 검색 색인 재구성용. 전체를 메모리에 올리지 않도록 fetch size 단위로 스트리밍한다.
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT t.id AS id, t.title AS title, t.contents AS contents FROM Todo t ORDER BY t.id")
+  Stream<TodoSearchDocument> streamSearchDocuments();
+
+  @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+  Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+  @Query("SELECT t.id FROM Todo t WHERE t.id IN :todoIds")
+  List<Long> findIdsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+  // 엔티티를 읽지 않는 벌크 삭제. 댓글/담당자를 먼저 지워야 한다.
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+  int bulkDeleteById(@Param("todoId") Long todoId);
+
+  @Query("SELECT t.id AS id, t.createdAt AS createdAt FROM Todo t"
+          + " WHERE t.weatherStatus = :weatherStatus ORDER BY t.id")
+  List<PendingWeatherTodo> findByWeatherStatus(@Param("weatherStatus") WeatherStatus weatherStatus,
+          Pageable pageable);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Todo t SET t.weather = :weather, t.weatherStatus = :resolved,"
+          + " t.modifiedAt = :modifiedAt WHERE t.id IN :todoIds")
+  int resolveWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather,
+          @Param("resolved") WeatherStatus resolved, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+  // 재시도 횟수를 올리고, 한도에 도달한 일정은 FAILED 로 전환
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Todo t SET t.weatherAttempts = t.weatherAttempts + 1,"
+          + " t.weatherStatus = CASE WHEN t.weatherAttempts + 1 >= :maxAttempts"
+          + " THEN :failed ELSE t.weatherStatus END"
+          + " WHERE t.id IN :todoIds")
+  int recordWeatherFailure(@Param("todoIds") List<Long> todoIds,
+          @Param("maxAttempts") int maxAttempts, @Param("failed") WeatherStatus failed);
+}
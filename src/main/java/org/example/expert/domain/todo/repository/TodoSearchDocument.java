@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+// 검색 색인 재구성용 projection
+public interface TodoSearchDocument {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContents();
+}
@@ -0,0 +1,158 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * 하나의 검색어에 대한 posting list.
+ * (todoId 차이값, 출현 빈도) 쌍을 가변 길이 정수(varint)로 byte 배열에 이어 붙여 저장한다.
+ * todoId 는 오름차순으로 유지되며, 대부분의 추가는 가장 큰 id 뒤에 붙는 append 이다.
+ * 순서가 뒤바뀐 추가는 버퍼에 모았다가 버퍼가 커지거나 압축할 때 한 번에 병합한다.
+ */
+class PostingList {
+
+    private static final int MIN_PENDING_TO_MERGE = 64;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private long lastDocId;
+
+    // 순서가 뒤바뀌어 들어온 id 는 매번 다시 인코딩하지 않고 모아 두었다가 한꺼번에 병합한다.
+    private long[] pendingDocIds = new long[0];
+    private int[] pendingFrequencies = new int[0];
+    private int pendingCount;
+
+    int size() {
+        return size + pendingCount;
+    }
+
+    void add(long docId, int termFrequency) {
+        if (size == 0 || docId > lastDocId) {
+            append(docId, termFrequency);
+            return;
+        }
+        // 기동 시 색인 구성 중에 저장된 일정처럼 id 순서가 뒤바뀌어 들어오는 경우
+        if (pendingCount == pendingDocIds.length) {
+            int capacity = Math.max(8, pendingCount * 2);
+            pendingDocIds = Arrays.copyOf(pendingDocIds, capacity);
+            pendingFrequencies = Arrays.copyOf(pendingFrequencies, capacity);
+        }
+        pendingDocIds[pendingCount] = docId;
+        pendingFrequencies[pendingCount] = termFrequency;
+        pendingCount++;
+        if (pendingCount >= Math.max(MIN_PENDING_TO_MERGE, size / 8)) {
+            merge(id -> true);
+        }
+    }
+
+    // 압축 시 버퍼도 함께 병합한다.
+    void retain(LongPredicate predicate) {
+        merge(predicate);
+    }
+
+    void forEach(PostingConsumer consumer) {
+        forEachEncoded(consumer);
+        for (int i = 0; i < pendingCount; i++) {
+            consumer.accept(pendingDocIds[i], pendingFrequencies[i]);
+        }
+    }
+
+    private void forEachEncoded(PostingConsumer consumer) {
+        int position = 0;
+        long docId = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docId += delta;
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            consumer.accept(docId, frequency);
+        }
+    }
+
+    // 인코딩된 목록과 정렬한 버퍼를 한 번에 병합해 다시 인코딩한다. 중복 id 는 먼저 들어온 값만 남긴다.
+    private void merge(LongPredicate predicate) {
+        long[] docIds = new long[size];
+        int[] frequencies = new int[size];
+        int[] index = {0};
+        forEachEncoded((docId, frequency) -> {
+            docIds[index[0]] = docId;
+            frequencies[index[0]] = frequency;
+            index[0]++;
+        });
+        int encodedCount = index[0];
+
+        int[] pendingOrder = IntStream.range(0, pendingCount).boxed()
+                .sorted(Comparator.comparingLong(i -> pendingDocIds[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] pendingIds = pendingDocIds;
+        int[] pendingFreqs = pendingFrequencies;
+
+        data = new byte[Math.max(8, length)];
+        length = 0;
+        size = 0;
+        lastDocId = 0;
+        pendingDocIds = new long[0];
+        pendingFrequencies = new int[0];
+        pendingCount = 0;
+
+        int e = 0;
+        int p = 0;
+        while (e < encodedCount || p < pendingOrder.length) {
+            long docId;
+            int frequency;
+            if (p == pendingOrder.length
+                    || (e < encodedCount && docIds[e] <= pendingIds[pendingOrder[p]])) {
+                docId = docIds[e];
+                frequency = frequencies[e++];
+            } else {
+                docId = pendingIds[pendingOrder[p]];
+                frequency = pendingFreqs[pendingOrder[p++]];
+            }
+            if ((size == 0 || docId > lastDocId) && predicate.test(docId)) {
+                append(docId, frequency);
+            }
+        }
+    }
+
+    private void append(long docId, int termFrequency) {
+        writeVarLong(docId - lastDocId);
+        writeVarLong(termFrequency);
+        lastDocId = docId;
+        size++;
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+
+        void accept(long docId, int termFrequency);
+    }
+}
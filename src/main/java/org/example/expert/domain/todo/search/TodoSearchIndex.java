@@ -0,0 +1,213 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 제목/내용에 대한 메모리 역색인.
+ * 검색어마다 압축된 {@link PostingList}를 두고 BM25 점수로 정렬한다. 제목의 단어는 가중치를 두 배로 준다.
+ * 삭제된 일정은 tombstone 으로 표시했다가 일정 비율을 넘으면 posting list 에서 한꺼번에 걸러낸다.
+ * 적재 중에는 아직 색인에 없는 일정이 지워져도 기록해 두어, 적재가 읽어 둔 오래된 문서로 되살아나지 않게 한다.
+ */
+@Component
+public class TodoSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Set<Long> tombstones = new HashSet<>();
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private long totalLength;
+
+    public void add(long todoId, String title, String contents) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : tokenize(title)) {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(contents)) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        int documentLength = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (documentLengths.containsKey(todoId) || tombstones.contains(todoId)
+                    || removedWhileLoading.contains(todoId)) {
+                return;
+            }
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(todoId, frequency));
+            documentLengths.put(todoId, documentLength);
+            totalLength += documentLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션이 롤백되면 색인에 남지 않도록 커밋 이후에 추가한다.
+    public void addAfterCommit(long todoId, String title, String contents) {
+        AfterCommit.run(() -> add(todoId, title, contents));
+    }
+
+    public void remove(long todoId) {
+        lock.writeLock().lock();
+        try {
+            Integer documentLength = documentLengths.remove(todoId);
+            if (documentLength == null) {
+                if (loading) {
+                    removedWhileLoading.add(todoId);
+                }
+                return;
+            }
+            totalLength -= documentLength;
+            tombstones.add(todoId);
+            if (tombstones.size() >= Math.max(MIN_TOMBSTONES_TO_COMPACT, documentLengths.size() / 4)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 적재가 끝날 때까지 색인에 없는 일정의 삭제도 기억해 둔다.
+    public void startLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            removedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : new HashSet<>(terms)) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                postingList.forEach((todoId, frequency) -> {
+                    Integer documentLength = documentLengths.get(todoId);
+                    if (documentLength == null) {
+                        return;
+                    }
+                    double normalized = frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+                    scores.merge(todoId, idf * normalized, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> topK = new PriorityQueue<>(
+                Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            topK.offer(entry);
+            if (topK.size() > limit) {
+                topK.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(topK.size());
+        while (!topK.isEmpty()) {
+            ranked.add(topK.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void compact() {
+        postings.values().removeIf(postingList -> {
+            postingList.retain(todoId -> !tombstones.contains(todoId));
+            return postingList.size() == 0;
+        });
+        tombstones.clear();
+    }
+
+    /**
+     * 문자/숫자가 아닌 글자를 기준으로 단어를 나누고 소문자로 맞춘다.
+     * 한글 단어는 조사가 붙어도 검색되도록 두 글자 단위(bigram)도 함께 만든다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(normalized.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(String word, List<String> tokens) {
+        tokens.add(word);
+        if (word.length() > 2 && containsHangul(word)) {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static boolean containsHangul(String word) {
+        return word.codePoints()
+                .anyMatch(codePoint -> Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchDocument;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 애플리케이션 기동 시 DB 의 일정을 한 번 스트리밍하며 검색 색인을 채운다.
+ * 이후의 변경은 일정 저장/삭제 경로에서 색인에 바로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexLoader {
+
+    private final TodoRepository todoRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        todoSearchIndex.startLoading();
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<TodoSearchDocument> documents = todoRepository.streamSearchDocuments()) {
+                    documents.forEach(document ->
+                            todoSearchIndex.add(document.getId(), document.getTitle(), document.getContents()));
+                }
+            });
+        } finally {
+            todoSearchIndex.finishLoading();
+        }
+
+        log.info("일정 검색 색인 구성 완료. 문서 수: {}, 소요 시간: {}ms",
+                todoSearchIndex.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
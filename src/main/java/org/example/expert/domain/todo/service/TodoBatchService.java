@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일정 대량 등록.
+ * 날씨는 배치당 한 번만 조회하고, chunk 단위 트랜잭션으로 나눠 JDBC 배치 insert 로 저장한다.
+ * 한 chunk 의 커밋이 실패해도 다른 chunk 에는 영향을 주지 않으며, 결과는 요청 항목별로 돌려준다.
+ */
+@Slf4j
+@Service
+public class TodoBatchService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherCache weatherCache;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ManagedTodoIndex managedTodoIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TodoBatchService(
+            TodoRepository todoRepository,
+            WeatherCache weatherCache,
+            TodoSearchIndex todoSearchIndex,
+            ManagedTodoIndex managedTodoIndex,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            @Value("${todo.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherCache = weatherCache;
+        this.todoSearchIndex = todoSearchIndex;
+        this.managedTodoIndex = managedTodoIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest request) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> items = request.getTodos();
+        TodoBatchItemResult[] results = new TodoBatchItemResult[items.size()];
+
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            String violation = validate(items.get(index));
+            if (violation == null) {
+                validIndexes.add(index);
+            } else {
+                results[index] = TodoBatchItemResult.failed(index, violation);
+            }
+        }
+
+        String weather = resolveWeather();
+
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            List<Todo> todos = chunk.stream()
+                    .map(index -> new Todo(
+                            items.get(index).getTitle(),
+                            items.get(index).getContents(),
+                            weather,
+                            user
+                    ))
+                    .toList();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> todoRepository.saveAll(todos));
+            } catch (RuntimeException e) {
+                log.warn("일정 대량 등록 중 chunk 저장 실패. 항목 수: {}", chunk.size(), e);
+                for (Integer index : chunk) {
+                    results[index] = TodoBatchItemResult.failed(index, "저장에 실패했습니다.");
+                }
+                continue;
+            }
+
+            // 커밋된 chunk 만 검색 색인과 담당 일정 색인(작성자 = 담당자)에 반영
+            for (int i = 0; i < chunk.size(); i++) {
+                Todo saved = todos.get(i);
+                todoSearchIndex.add(saved.getId(), saved.getTitle(), saved.getContents());
+                managedTodoIndex.add(user.getId(), saved.getId());
+                results[chunk.get(i)] = TodoBatchItemResult.created(chunk.get(i), saved.getId());
+            }
+        }
+
+        return new TodoBatchSaveResponse(Arrays.asList(results));
+    }
+
+    private String validate(TodoSaveRequest item) {
+        if (item == null) {
+            return "일정 정보가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    // 날씨를 바로 얻지 못하면 PENDING 으로 저장해 TodoWeatherEnricher 가 채우도록 한다.
+    private String resolveWeather() {
+        try {
+            return weatherCache.getTodayWeather();
+        } catch (RuntimeException e) {
+            log.warn("일정 대량 등록 중 날씨 조회 실패. 날씨는 비동기로 채워집니다.", e);
+            return null;
+        }
+    }
+}
@@ -1,20 +1,42 @@
 package org.example.expert.domain.todo.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.MultiGetResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoCache;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,62 +44,182 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ManagedTodoIndex managedTodoIndex;
+    private final TodoCache todoCache;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
+        // 날씨는 외부 API 호출이 트랜잭션을 붙잡지 않도록 TodoWeatherEnricher 가 비동기로 채운다.
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
-                weather,
+                null,
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndex.addAfterCommit(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
+        // 작성자는 생성 시 담당자로 함께 등록된다
+        managedTodoIndex.addAfterCommit(user.getId(), savedTodo.getId());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
-                weather,
+                savedTodo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    /**
+     * 댓글, 담당자, 일정을 각각 한 번의 벌크 DELETE 로 지운다.
+     * 엔티티를 영속성 컨텍스트로 읽지 않으므로 엔티티 콜백이 돌지 않고, 캐시와 검색 색인은 여기서 직접 정리한다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!ownerId.equals(authUser.getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        List<Long> managerUserIds = managedTodoIndex.isEnabled()
+                ? managerRepository.findUserIdsByTodoId(todoId)
+                : List.of();
+
+        commentRepository.bulkDeleteByTodoId(todoId);
+        managerRepository.bulkDeleteByTodoId(todoId);
+        todoRepository.bulkDeleteById(todoId);
+
+        todoCache.evict(todoId);
+        AfterCommit.run(() -> {
+            todoCache.evict(todoId);
+            todoSearchIndex.remove(todoId);
+            managerUserIds.forEach(userId -> managedTodoIndex.remove(userId, todoId));
+        });
+    }
+
+    public Page<TodoResponse> getTodos(int page, int size, String weather,
+            LocalDate modifiedFrom, LocalDate modifiedTo) {
+        if (modifiedFrom != null && modifiedTo != null && modifiedFrom.isAfter(modifiedTo)) {
+            throw new InvalidRequestException("modifiedFrom은 modifiedTo보다 늦을 수 없습니다.");
+        }
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        // 수정일 기간은 [modifiedFrom 00:00, modifiedTo 다음날 00:00) 구간으로 조회
+        return todoRepository.findTodoResponses(
+                weather == null || weather.isBlank() ? null : weather,
+                modifiedFrom == null ? null : modifiedFrom.atStartOfDay(),
+                modifiedTo == null ? null : modifiedTo.plusDays(1).atStartOfDay(),
+                pageable);
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new InvalidRequestException("size는 1 이상 100 이하여야 합니다.");
+        }
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstSlice(limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findSliceAfter(
+                    keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor);
     }
 
+    // 캐시 hit 시 커넥션을 점유하지 않도록 트랜잭션을 열지 않는다. (miss 시 조회는 리포지토리 트랜잭션에서 수행)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return todoCache.get(todoId, id -> todoRepository.findTodoResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
 
-        User user = todo.getUser();
+    // 캐시 hit 분은 바로, 나머지는 IN 쿼리 한 번으로 조회한다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MultiGetResponse<TodoResponse> getTodosByIds(List<Long> ids) {
+        List<Long> todoIds = MultiGetResponse.distinctIds(ids);
+        Map<Long, TodoResponse> found = todoCache.getAll(todoIds, missing ->
+                todoRepository.findTodoResponsesByIdIn(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(TodoResponse::getId, Function.identity())));
+        return MultiGetResponse.of(todoIds, found);
+    }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    public List<TodoResponse> searchTodos(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > 100) {
+            throw new InvalidRequestException("size는 1 이상 100 이하여야 합니다.");
+        }
+
+        List<Long> rankedIds = todoSearchIndex.search(query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 색인 순위대로 다시 정렬 (그 사이 삭제된 일정은 제외)
+        Map<Long, TodoResponse> todosById = todoRepository.findTodoResponsesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(todosById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 전체 일정을 NDJSON(한 줄에 JSON 하나)으로 출력 스트림에 바로 쓴다.
+     * id 순으로 EXPORT_CHUNK_SIZE 건씩 끊어 읽고 조회마다 짧은 트랜잭션을 쓰므로, 클라이언트가 느리게 받아도
+     * 커넥션을 붙잡지 않고 메모리에는 한 묶음과 출력 버퍼만 머문다.
+     * 묶음 사이에 바뀐 일정은 바뀐 내용으로 나가므로 전체가 한 시점의 스냅샷은 아니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportTodos(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+        Pageable chunkSize = PageRequest.of(0, EXPORT_CHUNK_SIZE);
+
+        try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+            long afterId = 0;
+            List<TodoResponse> chunk;
+            do {
+                chunk = todoRepository.findExportChunkAfter(afterId, chunkSize);
+                for (TodoResponse todo : chunk) {
+                    sequenceWriter.write(todo);
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+
+            if (afterId > 0) {
+                sequenceWriter.flush();
+                outputStream.write('\n');
+            }
+        }
+        outputStream.flush();
     }
 }
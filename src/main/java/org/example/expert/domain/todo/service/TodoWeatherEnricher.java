@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.todo.cache.TodoCache;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PENDING 상태의 일정에 날씨를 채워 넣는 백그라운드 워커.
+ * 배치를 생성일 기준으로 묶어 날짜마다 날씨를 한 번만 조회해 벌크 UPDATE 로 반영하고,
+ * 조회에 실패하면 재시도 횟수를 올려 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherCache weatherCache;
+    private final TodoCache todoCache;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherCache weatherCache,
+            TodoCache todoCache,
+            @Value("${todo.weather.enrichment.batch-size:500}") int batchSize,
+            @Value("${todo.weather.enrichment.max-attempts:5}") int maxAttempts
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherCache = weatherCache;
+        this.todoCache = todoCache;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment.fixed-delay-ms:5000}")
+    public void enrichPendingTodos() {
+        List<PendingWeatherTodo> pendingTodos;
+        do {
+            pendingTodos = todoRepository.findByWeatherStatus(
+                    WeatherStatus.PENDING, PageRequest.of(0, batchSize));
+            if (pendingTodos.isEmpty()) {
+                return;
+            }
+
+            // 일정이 생성된 날짜의 날씨를 기록한다.
+            Map<LocalDate, List<Long>> todoIdsByDate = pendingTodos.stream()
+                    .collect(Collectors.groupingBy(
+                            todo -> todo.getCreatedAt().toLocalDate(),
+                            TreeMap::new,
+                            Collectors.mapping(PendingWeatherTodo::getId, Collectors.toList())));
+
+            for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+                if (!enrich(entry.getKey(), entry.getValue())) {
+                    return;
+                }
+            }
+        } while (pendingTodos.size() == batchSize);
+    }
+
+    private boolean enrich(LocalDate date, List<Long> todoIds) {
+        String weather;
+        try {
+            weather = weatherCache.getWeather(date);
+        } catch (RuntimeException e) {
+            log.warn("날씨 조회 실패, 다음 주기에 재시도합니다. 대상 일정 수: {}", todoIds.size(), e);
+            todoRepository.recordWeatherFailure(todoIds, maxAttempts, WeatherStatus.FAILED);
+            return false;
+        }
+
+        todoRepository.resolveWeather(todoIds, weather, WeatherStatus.RESOLVED, LocalDateTime.now());
+        // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 캐시를 직접 비운다.
+        todoCache.evictAll(todoIds);
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 프로필(id, email) 조회 응답 캐시.
+ * 크기와 TTL 이 제한된 Caffeine 캐시이며, hit / miss / size 는 actuator 의 cache.* 메트릭(cache=userProfile)으로,
+ * 적중률은 cache.hit.ratio 게이지로 노출된다.
+ */
+@Component
+public class UserProfileCache {
+
+    private static final String CACHE_NAME = "userProfile";
+
+    private final Cache<Long, UserResponse> cache;
+
+    public UserProfileCache(
+            @Value("${user.cache.maximum-size:50000}") long maximumSize,
+            @Value("${user.cache.expire-after-write:30m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public UserResponse get(long userId, Function<Long, UserResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    // 캐시에 없는 id 만 모아 loader 한 번으로 채운다. loader 가 돌려주지 않은 id 는 결과에서 빠진다.
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds,
+            Function<Set<? extends Long>, Map<Long, UserResponse>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    /**
+     * 지금 한 번, 커밋 이후에 한 번 더 비워 커밋 전에 다시 채워진 오래된 값이 남지 않도록 한다.
+     */
+    public void evict(long userId) {
+        AfterCommit.runNowAndAfterCommit(() -> cache.invalidate(userId));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
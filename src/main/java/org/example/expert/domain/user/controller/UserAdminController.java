@@ -2,7 +2,9 @@ package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.PasswordCostStatsResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -19,4 +21,9 @@ public class UserAdminController {
           @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
     userAdminService.changeUserRole(userId, userRoleChangeRequest);
   }
+
+  @GetMapping("/admin/users/password-costs")
+  public PasswordCostStatsResponse getPasswordCostStats() {
+    return userAdminService.getPasswordCostStats();
+  }
 }
@@ -1,8 +1,12 @@
 package org.example.expert.domain.user.controller;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.MultiGetResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.service.UserService;
@@ -12,7 +16,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,14 +26,25 @@ public class UserController {
 
     private final UserService userService;
 
+    @GetMapping(value = "/users", params = "ids")
+    public ResponseEntity<MultiGetResponse<UserResponse>> getUsers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsers(ids));
+    }
+
     @GetMapping("/users/{userId}")
-    public ResponseEntity<UserResponse> getUser(@PathVariable long userId) {
-        return ResponseEntity.ok(userService.getUser(userId));
+    public ResponseEntity<UserResponse> getUser(@PathVariable long userId, WebRequest webRequest) {
+        // 캐시된 응답의 modifiedAt 으로 버전을 만들어, 캐시 hit 이면 DB 를 거치지 않고 304 여부를 판단한다.
+        UserResponse user = userService.getUser(userId);
+        ResourceVersion version = ResourceVersion.of(user.getId(), user.getModifiedAt());
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(user);
     }
 
     @PutMapping("/users")
-    public void changePassword(@Auth AuthUser authUser,
+    public CompletableFuture<Void> changePassword(@Auth AuthUser authUser,
             @Validated @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
-        userService.changePassword(authUser.getId(), userChangePasswordRequest);
+        return userService.changePassword(authUser.getId(), userChangePasswordRequest);
     }
 }
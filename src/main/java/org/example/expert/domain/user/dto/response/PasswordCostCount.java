@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordCostCount {
+
+    private final Integer cost;
+    private final long userCount;
+
+    public PasswordCostCount(Integer cost, long userCount) {
+        this.cost = cost;
+        this.userCount = userCount;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class PasswordCostStatsResponse {
+
+    private final int targetCost;
+    private final List<PasswordCostCount> costs;
+
+    public PasswordCostStatsResponse(int targetCost, List<PasswordCostCount> costs) {
+        this.targetCost = targetCost;
+        this.costs = costs;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.expert.domain.user.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
 import lombok.Getter;
 
 @Getter
@@ -7,9 +9,17 @@ public class UserResponse {
 
     private final Long id;
     private final String email;
+    // 단건 조회의 ETag/Last-Modified 용. 응답 본문에는 내보내지 않는다.
+    @JsonIgnore
+    private final LocalDateTime modifiedAt;
 
     public UserResponse(Long id, String email) {
+        this(id, email, null);
+    }
+
+    public UserResponse(Long id, String email, LocalDateTime modifiedAt) {
         this.id = id;
         this.email = email;
+        this.modifiedAt = modifiedAt;
     }
 }
@@ -0,0 +1,108 @@
+package org.example.expert.domain.user.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 이메일의 Bloom filter.
+ * {@link #mightContain(String)} 가 false 이면 "확실히 없음" 이므로 회원가입 시 existsByEmail 조회를 생략할 수 있다.
+ * 비트는 켜지기만 하므로 기동 시 적재와 가입 경로의 추가가 동시에 일어나도 잠금이 필요 없고,
+ * 적재가 끝나기 전에는 항상 "있을 수 있음" 으로 답해 DB 확인으로 넘긴다.
+ * 최종 중복 판단은 여전히 users.email 유니크 제약이 맡는다.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private volatile boolean ready;
+
+    public EmailBloomFilter(
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry
+    ) {
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+        Gauge.builder("user.email-filter.fill-ratio", this, EmailBloomFilter::fillRatio)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * false 이면 가입된 적 없는 이메일이다. 적재 전에는 항상 true.
+     */
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hashes, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hashes, i);
+            long mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    public double fillRatio() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return (double) setBits / bitCount;
+    }
+
+    // 더블 해싱: i 번째 해시 = h1 + i * h2
+    private long bitIndex(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 맞춰 해싱한다.
+    private static long[] hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long h1 = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            h1 ^= normalized.charAt(i);
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = mix(h1 ^ normalized.length());
+        return new long[]{mix(h1), h2 | 1};
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
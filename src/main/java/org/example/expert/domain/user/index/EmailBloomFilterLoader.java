@@ -0,0 +1,47 @@
+package org.example.expert.domain.user.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 애플리케이션 기동 시 users 테이블의 이메일을 한 번 스트리밍하며 {@link EmailBloomFilter} 를 채운다.
+ * 이후 가입한 이메일은 회원가입 경로에서 바로 추가된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilterLoader {
+
+    private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+        AtomicLong count = new AtomicLong();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamEmails()) {
+                emails.forEach(email -> {
+                    emailBloomFilter.put(email);
+                    count.incrementAndGet();
+                });
+            }
+        });
+        emailBloomFilter.markReady();
+
+        log.info("이메일 Bloom filter 구성 완료. 이메일 수: {}, 소요 시간: {}ms",
+                count.get(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
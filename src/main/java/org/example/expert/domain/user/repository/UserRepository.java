@@ -1,11 +1,54 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.user.dto.response.PasswordCostCount;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.password FROM User u WHERE u.id = :userId")
+    Optional<String> findPasswordById(@Param("userId") Long userId);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email, u.modifiedAt)"
+            + " FROM User u WHERE u.id = :userId")
+    Optional<UserResponse> findUserResponseById(@Param("userId") Long userId);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email, u.modifiedAt)"
+            + " FROM User u WHERE u.id IN :userIds")
+    List<UserResponse> findUserResponsesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 로그인 시 재해싱 결과 반영용. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
+
+    // BCrypt 해시 "$2a$10$..." 의 5~6번째 문자가 cost 이다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.PasswordCostCount("
+            + "CAST(SUBSTRING(u.password, 5, 2) AS Integer), COUNT(u))"
+            + " FROM User u GROUP BY CAST(SUBSTRING(u.password, 5, 2) AS Integer)"
+            + " ORDER BY CAST(SUBSTRING(u.password, 5, 2) AS Integer)")
+    List<PasswordCostCount> countByPasswordCost();
+
+    // 이메일 Bloom filter 구성용. 전체를 메모리에 올리지 않도록 fetch size 단위로 스트리밍한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamEmails();
 }
@@ -1,9 +1,12 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.annotation.Admin;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserProfileCache;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.PasswordCostStatsResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -15,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
   private final UserRepository userRepository;
+  private final UserProfileCache userProfileCache;
+  private final PasswordEncoder passwordEncoder;
 
   @Admin
   @Transactional
@@ -22,5 +27,13 @@ public class UserAdminService {
     User user = userRepository.findById(userId)
             .orElseThrow(() -> new InvalidRequestException("User not found"));
     user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+    userProfileCache.evict(userId);
+  }
+
+  // 저장된 비밀번호 해시의 cost 분포. 로그인 시 재해싱이 목표 cost 로 얼마나 옮겨 갔는지 확인하는 용도
+  @Admin
+  @Transactional(readOnly = true)
+  public PasswordCostStatsResponse getPasswordCostStats() {
+    return new PasswordCostStatsResponse(passwordEncoder.getCost(), userRepository.countByPasswordCost());
   }
 }
@@ -1,44 +1,105 @@
 package org.example.expert.domain.user.service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.AsyncPasswordEncoder;
+import org.example.expert.domain.common.dto.MultiGetResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserProfileCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordEncoder asyncPasswordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProfileCache userProfileCache;
 
-    @Transactional(readOnly = true)
+    // 캐시 hit 시 커넥션을 점유하지 않도록 트랜잭션을 열지 않는다. (miss 시 조회는 리포지토리 트랜잭션에서 수행)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        return userProfileCache.get(userId, id -> userRepository.findUserResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("User not found")));
+    }
+
+    // 캐시 hit 분은 바로, 나머지는 IN 쿼리 한 번으로 조회한다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MultiGetResponse<UserResponse> getUsers(List<Long> ids) {
+        List<Long> userIds = MultiGetResponse.distinctIds(ids);
+        Map<Long, UserResponse> found = userProfileCache.getAll(userIds, missing ->
+                userRepository.findUserResponsesByIdIn(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(UserResponse::getId, Function.identity())));
+        return MultiGetResponse.of(userIds, found);
     }
 
-    @Transactional
-    public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
-        User user = userRepository.findById(userId)
+    /**
+     * 비교 두 번과 해싱 한 번을 {@link AsyncPasswordEncoder} 의 전용 풀에서 차례로 수행하고,
+     * 변경은 마지막에 후속 작업 풀에서 짧은 트랜잭션으로 반영한다.
+     */
+    public CompletableFuture<Void> changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
+        String currentPassword = userRepository.findPasswordById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(),
-                user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
+        return asyncPasswordEncoder.matches(userChangePasswordRequest.getNewPassword(), currentPassword)
+                .thenCompose(sameAsCurrent -> {
+                    if (sameAsCurrent) {
+                        throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+                    }
+                    return asyncPasswordEncoder.matches(userChangePasswordRequest.getOldPassword(), currentPassword);
+                })
+                .thenCompose(oldPasswordMatches -> {
+                    if (!oldPasswordMatches) {
+                        throw new InvalidRequestException("잘못된 비밀번호입니다.");
+                    }
+                    return asyncPasswordEncoder.encode(userChangePasswordRequest.getNewPassword());
+                })
+                .thenComposeAsync(encodedPassword -> savePassword(
+                        userId, userChangePasswordRequest.getOldPassword(), currentPassword, encodedPassword),
+                        asyncPasswordEncoder.continuationExecutor());
+    }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(),
-                user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+    /**
+     * 확인에 쓴 해시가 그대로일 때만 새 해시로 바꾼다.
+     * 해싱하는 동안 해시가 바뀌었다면 로그인 시 재해싱처럼 비밀번호는 그대로일 수 있으므로,
+     * 바뀐 해시로 기존 비밀번호를 다시 확인해 맞으면 그 해시를 기준으로 다시 시도하고 아니면 거절한다.
+     */
+    private CompletableFuture<Void> savePassword(long userId, String oldPassword, String verifiedPassword,
+            String encodedPassword) {
+        Optional<String> changedPassword = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
+            if (!user.getPassword().equals(verifiedPassword)) {
+                return Optional.of(user.getPassword());
+            }
+            user.changePassword(encodedPassword);
+            userProfileCache.evict(userId);
+            return Optional.empty();
+        });
+        if (changedPassword.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String storedPassword = changedPassword.get();
+        return asyncPasswordEncoder.matches(oldPassword, storedPassword)
+                .thenComposeAsync(oldPasswordMatches -> {
+                    if (!oldPasswordMatches) {
+                        throw new InvalidRequestException("잘못된 비밀번호입니다.");
+                    }
+                    return savePassword(userId, oldPassword, storedPassword, encodedPassword);
+                }, asyncPasswordEncoder.continuationExecutor());
     }
 }
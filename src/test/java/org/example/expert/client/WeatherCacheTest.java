@@ -0,0 +1,162 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherCacheTest {
+
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    private WeatherCache weatherCache;
+
+    @BeforeEach
+    void setUp() {
+        weatherCache = new WeatherCache(weatherClient, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 한_번_받은_날씨_문서로_여러_날짜를_조회한다() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(weatherClient.getWeatherByDate()).willReturn(Map.of(
+                today.format(MONTH_DAY), "Sunny",
+                today.plusDays(1).format(MONTH_DAY), "Rainy"));
+
+        // when
+        String todayWeather = weatherCache.getTodayWeather();
+        String tomorrowWeather = weatherCache.getWeather(today.plusDays(1));
+
+        // then
+        assertThat(todayWeather).isEqualTo("Sunny");
+        assertThat(tomorrowWeather).isEqualTo("Rainy");
+        then(weatherClient).should(times(1)).getWeatherByDate();
+    }
+
+    @Test
+    void 동시에_발생한_miss는_하나의_조회로_합쳐진다() throws Exception {
+        // given
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        given(weatherClient.getWeatherByDate()).willAnswer(invocation -> {
+            fetchStarted.countDown();
+            releaseFetch.await();
+            return Map.of(LocalDate.now().format(MONTH_DAY), "Sunny");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(weatherCache::getTodayWeather));
+            fetchStarted.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(weatherCache::getTodayWeather));
+            }
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("Sunny");
+            }
+            then(weatherClient).should(times(1)).getWeatherByDate();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 미리_받기에_실패해도_마지막으로_받은_값을_유지한다() {
+        // given
+        given(weatherClient.getWeatherByDate())
+                .willReturn(Map.of(LocalDate.now().format(MONTH_DAY), "Sunny"))
+                .willThrow(new ServerException("날씨 데이터가 없습니다."));
+        weatherCache.getTodayWeather();
+
+        // when
+        weatherCache.prefetchTomorrow();
+
+        // then
+        assertThat(weatherCache.getTodayWeather()).isEqualTo("Sunny");
+        then(weatherClient).should(times(2)).getWeatherByDate();
+    }
+
+    @Test
+    void 받은_적이_없는데_조회에_실패하면_예외가_발생한다() {
+        // given
+        given(weatherClient.getWeatherByDate()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> weatherCache.getTodayWeather())
+                .isInstanceOf(ServerException.class)
+                .hasMessageContaining("날씨 데이터가 없습니다.");
+    }
+
+    @Test
+    void 이미_갱신된_뒤에_들어온_조회는_외부_API_를_다시_부르지_않는다() {
+        // given
+        given(weatherClient.getWeatherByDate()).willReturn(Map.of(LocalDate.now().format(MONTH_DAY), "Sunny"));
+        weatherCache.prefetchTomorrow();
+
+        // when
+        weatherCache.prefetchTomorrow();
+        weatherCache.getTodayWeather();
+
+        // then
+        then(weatherClient).should(times(1)).getWeatherByDate();
+    }
+
+    @Test
+    void 갱신에_실패하면_잠시_외부_API_를_다시_부르지_않는다() {
+        // given
+        given(weatherClient.getWeatherByDate()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+        assertThatThrownBy(() -> weatherCache.getTodayWeather()).isInstanceOf(ServerException.class);
+
+        // when & then
+        assertThatThrownBy(() -> weatherCache.getTodayWeather())
+                .isInstanceOf(ServerException.class)
+                .hasMessage("날씨 데이터를 가져오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        then(weatherClient).should(times(1)).getWeatherByDate();
+    }
+
+    @Test
+    void 실패_대기_시간이_지나면_다시_조회한다() {
+        // given
+        WeatherCache weatherCache = new WeatherCache(weatherClient, Duration.ZERO);
+        given(weatherClient.getWeatherByDate())
+                .willThrow(new ServerException("날씨 데이터가 없습니다."))
+                .willReturn(Map.of(LocalDate.now().format(MONTH_DAY), "Sunny"));
+        assertThatThrownBy(weatherCache::getTodayWeather).isInstanceOf(ServerException.class);
+
+        // when
+        String weather = weatherCache.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Sunny");
+        then(weatherClient).should(times(2)).getWeatherByDate();
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_JSON =
+            "[{\"date\":\"03-01\",\"weather\":\"Sunny\"},{\"date\":\"03-02\",\"weather\":\"Rainy\"}]";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private volatile StubHandler handler;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            int attempt = requestCount.incrementAndGet();
+            handler.handle(exchange, attempt);
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (weatherClient != null) {
+            weatherClient.shutdown();
+        }
+    }
+
+    @Test
+    void 날씨_문서를_날짜별_Map으로_변환한다() {
+        // given
+        handler = (exchange, attempt) -> respond(exchange, 200, WEATHER_JSON);
+        weatherClient = createClient(properties());
+
+        // when
+        Map<String, String> weatherByDate = weatherClient.getWeatherByDate();
+
+        // then
+        assertThat(weatherByDate).containsEntry("03-01", "Sunny").containsEntry("03-02", "Rainy");
+    }
+
+    @Test
+    void 응답이_deadline을_넘기면_예외가_발생한다() {
+        // given
+        handler = (exchange, attempt) -> {
+            sleep(1_000);
+            respond(exchange, 200, WEATHER_JSON);
+        };
+        WeatherClientProperties properties = properties();
+        properties.setDeadline(Duration.ofMillis(200));
+        weatherClient = createClient(properties);
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> weatherClient.getWeatherByDate())
+                .isInstanceOf(ServerException.class)
+                .hasMessageContaining("제한 시간");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    void 실패가_누적되면_서킷이_열려_upstream을_호출하지_않는다() {
+        // given
+        handler = (exchange, attempt) -> respond(exchange, 500, "error");
+        WeatherClientProperties properties = properties();
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(3);
+        properties.getCircuitBreaker().setSlidingWindowSize(3);
+        weatherClient = createClient(properties);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> weatherClient.getWeatherByDate())
+                    .isInstanceOf(ServerException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> weatherClient.getWeatherByDate())
+                .isInstanceOf(ServerException.class)
+                .hasMessageContaining("차단");
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("weather.client.circuit-breaker.trips").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 첫_요청이_느리면_hedge_요청의_응답을_사용한다() {
+        // given
+        handler = (exchange, attempt) -> {
+            if (attempt == 1) {
+                sleep(2_000);
+            }
+            respond(exchange, 200, WEATHER_JSON);
+        };
+        WeatherClientProperties properties = properties();
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setDefaultDelay(Duration.ofMillis(100));
+        properties.setReadTimeout(Duration.ofSeconds(3));
+        properties.setDeadline(Duration.ofSeconds(1));
+        weatherClient = createClient(properties);
+
+        // when
+        Map<String, String> weatherByDate = weatherClient.getWeatherByDate();
+
+        // then
+        assertThat(weatherByDate).containsEntry("03-01", "Sunny");
+        assertThat(meterRegistry.get("weather.client.hedged-requests").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 첫_요청이_바로_실패하면_hedge_지연을_기다리지_않고_다시_요청한다() {
+        // given
+        handler = (exchange, attempt) -> {
+            if (attempt == 1) {
+                respond(exchange, 500, "error");
+                return;
+            }
+            respond(exchange, 200, WEATHER_JSON);
+        };
+        WeatherClientProperties properties = properties();
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setDefaultDelay(Duration.ofSeconds(2));
+        properties.setDeadline(Duration.ofSeconds(3));
+        weatherClient = createClient(properties);
+
+        // when
+        long startedAt = System.nanoTime();
+        Map<String, String> weatherByDate = weatherClient.getWeatherByDate();
+
+        // then
+        assertThat(weatherByDate).containsEntry("03-01", "Sunny");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    private WeatherClientProperties properties() {
+        WeatherClientProperties properties = new WeatherClientProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        return properties;
+    }
+
+    private WeatherClient createClient(WeatherClientProperties properties) {
+        return new WeatherClient(new RestTemplateBuilder(), properties, meterRegistry);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+
+        void handle(HttpExchange exchange, int attempt) throws IOException;
+    }
+}
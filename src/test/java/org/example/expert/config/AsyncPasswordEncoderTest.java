@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncPasswordEncoderTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncPasswordEncoder asyncPasswordEncoder =
+            new AsyncPasswordEncoder(passwordEncoder, meterRegistry, 1, 1, 1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        asyncPasswordEncoder.shutdown();
+    }
+
+    @Test
+    void 해싱은_요청_스레드가_아닌_전용_스레드에서_수행된다() {
+        // given
+        given(passwordEncoder.encode("password")).willAnswer(invocation -> Thread.currentThread().getName());
+
+        // when
+        String threadName = asyncPasswordEncoder.encode("password").join();
+
+        // then
+        assertThat(threadName).startsWith("password-hash-");
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 해싱_이후의_후속_작업은_해싱_스레드가_아닌_후속_작업_스레드에서_수행된다() {
+        // given
+        given(passwordEncoder.encode("password")).willReturn("encoded");
+
+        // when
+        String threadName = asyncPasswordEncoder.encode("password")
+                .thenApplyAsync(encoded -> Thread.currentThread().getName(), asyncPasswordEncoder.continuationExecutor())
+                .join();
+
+        // then
+        assertThat(threadName).startsWith("password-io-");
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_503_예외로_거절한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode("slow")).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        CompletableFuture<String> running = asyncPasswordEncoder.encode("slow");
+        started.await();
+        CompletableFuture<String> queued = asyncPasswordEncoder.encode("slow");
+
+        // when & then
+        assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> asyncPasswordEncoder.encode("slow"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("encoded");
+        assertThat(queued.join()).isEqualTo("encoded");
+    }
+}
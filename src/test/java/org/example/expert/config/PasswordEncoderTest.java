@@ -1,17 +1,15 @@
 package org.example.expert.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(Duration.ofMillis(100), 5, 16, 3);
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +23,44 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 목표_시간이_충분하면_max_cost_까지만_올린다() {
+        // given
+        PasswordEncoder passwordEncoder = new PasswordEncoder(Duration.ofSeconds(10), 4, 6, 3);
+
+        // when
+        passwordEncoder.calibrate();
+
+        // then
+        assertThat(passwordEncoder.getCost()).isEqualTo(6);
+        assertThat(passwordEncoder.encode("testPassword")).startsWith("$2a$06$");
+    }
+
+    @Test
+    void 목표_시간을_넘으면_min_cost_를_사용한다() {
+        // given
+        PasswordEncoder passwordEncoder = new PasswordEncoder(Duration.ZERO, 5, 16, 3);
+
+        // when
+        passwordEncoder.calibrate();
+
+        // then
+        assertThat(passwordEncoder.getCost()).isEqualTo(5);
+    }
+
+    @Test
+    void 저장된_해시의_cost_가_현재_cost_보다_낮을_때만_재해싱이_필요하다() {
+        // given
+        String currentHash = passwordEncoder.encode("testPassword");
+        String weakerHash = "$2a$04$" + currentHash.substring(7);
+        String strongerHash = "$2a$12$" + currentHash.substring(7);
+
+        // when
+        // then
+        assertThat(passwordEncoder.needsRehash(currentHash)).isFalse();
+        assertThat(passwordEncoder.needsRehash(weakerHash)).isTrue();
+        assertThat(passwordEncoder.needsRehash(strongerHash)).isFalse();
+        assertThat(passwordEncoder.needsRehash("plain-text")).isFalse();
+    }
 }
@@ -6,10 +6,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.example.expert.config.AsyncPasswordEncoder;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -18,12 +23,17 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.EmailBloomFilter;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,14 +43,23 @@ class AuthServiceTest {
   private UserRepository userRepository;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private AsyncPasswordEncoder asyncPasswordEncoder;
 
   @Mock
   private JwtUtil jwtUtil;
 
+  @Mock
+  private EmailBloomFilter emailBloomFilter;
+
   @InjectMocks
   private AuthService authService;
 
+  @BeforeEach
+  void setUp() {
+    // 후속 작업 풀 대신 호출한 스레드에서 바로 실행한다.
+    lenient().when(asyncPasswordEncoder.continuationExecutor()).thenReturn(Runnable::run);
+  }
+
   @Test
   void 회원가입이_정상적으로_처리됨() {
     // given
@@ -48,27 +67,30 @@ class AuthServiceTest {
     String hashedPassword = "hashed1234";
     String jwtToken = "jwtToken";
 
-    given(passwordEncoder.encode(anyString())).willReturn(hashedPassword);
+    given(asyncPasswordEncoder.encode(anyString())).willReturn(CompletableFuture.completedFuture(hashedPassword));
 
     given(jwtUtil.createToken(anyLong(), anyString(), any())).willReturn(jwtToken);
 
-    given(userRepository.save(any())).willAnswer(invocation -> {
+    given(userRepository.saveAndFlush(any())).willAnswer(invocation -> {
       User savedUser = invocation.getArgument(0);
       ReflectionTestUtils.setField(savedUser, "id", 1L);
       return savedUser;
     });
 
     // when
-    SignupResponse response = authService.signup(request);
+    SignupResponse response = authService.signup(request).join();
 
     // then
     assertThat(response.getBearerToken()).isEqualTo(jwtToken);
+    then(userRepository).should(never()).existsByEmail(anyString());
+    then(emailBloomFilter).should().put("example@example.com");
   }
 
   @Test
   void 회원가입시_이미_이메일이_존재하면_예외를_던진다() {
     // given
     SignupRequest request = new SignupRequest("example@example.com", "1234", "USER");
+    given(emailBloomFilter.mightContain("example@example.com")).willReturn(true);
     given(userRepository.existsByEmail(anyString())).willReturn(true);
 
     // when
@@ -78,13 +100,48 @@ class AuthServiceTest {
             .hasMessageContaining("이미 존재하는 이메일입니다.");
   }
 
+  @Test
+  void 회원가입시_유니크_제약에_걸리면_이미_존재하는_이메일_예외를_던진다() {
+    // given
+    SignupRequest request = new SignupRequest("example@example.com", "1234", "USER");
+    given(asyncPasswordEncoder.encode(anyString())).willReturn(CompletableFuture.completedFuture("hashed1234"));
+    given(userRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate",
+            new ConstraintViolationException("duplicate", null, ConstraintKind.UNIQUE, "PUBLIC.UK_USERS_EMAIL_INDEX_4")));
+
+    // when
+    // then
+    assertThatThrownBy(() -> authService.signup(request).join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("이미 존재하는 이메일입니다.");
+    then(emailBloomFilter).should(never()).put(anyString());
+  }
+
+  @Test
+  void 회원가입시_이메일_유니크_제약이_아닌_무결성_오류는_그대로_던진다() {
+    // given
+    SignupRequest request = new SignupRequest("example@example.com", "1234", "USER");
+    DataIntegrityViolationException notNull = new DataIntegrityViolationException("not null",
+            new ConstraintViolationException("not null", null, ConstraintKind.OTHER, null));
+    given(asyncPasswordEncoder.encode(anyString())).willReturn(CompletableFuture.completedFuture("hashed1234"));
+    given(userRepository.saveAndFlush(any())).willThrow(notNull);
+
+    // when
+    // then
+    assertThatThrownBy(() -> authService.signup(request).join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isSameAs(notNull);
+  }
+
   @Test
   void 로그인이_정상적으로_처리됨() {
     // given
     SigninRequest request = new SigninRequest("example@example.com", "1234");
     String jwtToken = "jwtToken";
 
-    given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+    given(asyncPasswordEncoder.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(true));
     given(jwtUtil.createToken(anyLong(), anyString(), any())).willReturn(jwtToken);
     given(userRepository.findByEmail(anyString())).willAnswer(invoction -> {
       User findUser = new User("example@example.com", "1234", UserRole.USER);
@@ -93,7 +150,7 @@ class AuthServiceTest {
     });
 
     // when
-    SigninResponse response = authService.signin(request);
+    SigninResponse response = authService.signin(request).join();
 
     // then
     assertThat(response.getBearerToken()).isEqualTo(jwtToken);
@@ -104,7 +161,7 @@ class AuthServiceTest {
     // given
     SigninRequest request = new SigninRequest("example@example.com", "1234");
 
-    given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+    given(asyncPasswordEncoder.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(false));
     given(userRepository.findByEmail(anyString())).willAnswer(invoction -> {
       User findUser = new User("example@example.com", "1234", UserRole.USER);
       ReflectionTestUtils.setField(findUser, "id", 1L);
@@ -113,8 +170,56 @@ class AuthServiceTest {
 
     // when
     // then
-    assertThatThrownBy(() -> authService.signin(request))
+    assertThatThrownBy(() -> authService.signin(request).join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
             .isInstanceOf(AuthException.class)
             .hasMessageContaining("잘못된 비밀번호입니다.");
   }
+
+  @Test
+  void 로그인시_저장된_해시의_cost_가_목표와_다르면_재해싱해_저장한다() {
+    // given
+    SigninRequest request = new SigninRequest("example@example.com", "1234");
+    String oldHash = "$2a$04$oldHash";
+    String newHash = "$2a$12$newHash";
+
+    given(asyncPasswordEncoder.matches("1234", oldHash)).willReturn(CompletableFuture.completedFuture(true));
+    given(asyncPasswordEncoder.needsRehash(oldHash)).willReturn(true);
+    given(asyncPasswordEncoder.tryEncode("1234")).willReturn(Optional.of(CompletableFuture.completedFuture(newHash)));
+    given(jwtUtil.createToken(anyLong(), anyString(), any())).willReturn("jwtToken");
+    given(userRepository.findByEmail(anyString())).willAnswer(invoction -> {
+      User findUser = new User("example@example.com", oldHash, UserRole.USER);
+      ReflectionTestUtils.setField(findUser, "id", 1L);
+      return Optional.of(findUser);
+    });
+
+    // when
+    authService.signin(request).join();
+
+    // then
+    then(userRepository).should().updatePasswordIfUnchanged(1L, oldHash, newHash);
+  }
+
+  @Test
+  void 로그인시_cost_가_목표와_같으면_재해싱하지_않는다() {
+    // given
+    SigninRequest request = new SigninRequest("example@example.com", "1234");
+
+    given(asyncPasswordEncoder.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(true));
+    given(asyncPasswordEncoder.needsRehash(anyString())).willReturn(false);
+    given(jwtUtil.createToken(anyLong(), anyString(), any())).willReturn("jwtToken");
+    given(userRepository.findByEmail(anyString())).willAnswer(invoction -> {
+      User findUser = new User("example@example.com", "1234", UserRole.USER);
+      ReflectionTestUtils.setField(findUser, "id", 1L);
+      return Optional.of(findUser);
+    });
+
+    // when
+    authService.signin(request).join();
+
+    // then
+    then(asyncPasswordEncoder).should(never()).tryEncode(anyString());
+    then(userRepository).should(never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+  }
 }
\ No newline at end of file
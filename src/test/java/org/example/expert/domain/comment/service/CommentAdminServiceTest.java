@@ -0,0 +1,59 @@
+package org.example.expert.domain.comment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommentAdminServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @InjectMocks
+    private CommentAdminService commentAdminService;
+
+    @Test
+    public void 댓글_ID_목록을_중복_없이_한_번에_삭제한다() {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(List.of(1L, 1L, 3L));
+        given(commentRepository.bulkDeleteByIdIn(List.of(1L, 3L))).willReturn(2);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(request);
+
+        // then
+        assertEquals(2, response.getDeletedCount());
+        assertEquals("commentIds=3건", request.auditSummary());
+    }
+
+    @Test
+    public void 기간의_시작이_끝보다_늦으면_댓글을_삭제하지_않는다() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.deleteCommentsByTodo(1L, from, to));
+
+        // then
+        assertEquals("from은 to보다 이전이어야 합니다.", exception.getMessage());
+        then(commentRepository).should(never()).bulkDeleteByTodoIdAndCreatedAtBetween(anyLong(), any(), any());
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.expert.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CommentGroupCommitterTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CommentGroupCommitter commentGroupCommitter;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(todoRepository.findIdsByIdIn(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        commentGroupCommitter = new CommentGroupCommitter(commentRepository, todoRepository, transactionTemplate,
+                new SimpleMeterRegistry(), true, 100, 10, Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        commentGroupCommitter.shutdown();
+    }
+
+    @Test
+    void 대기_시간_안에_들어온_댓글은_한_트랜잭션으로_커밋된다() {
+        // given
+        given(commentRepository.saveAll(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        User user = new User();
+        commentGroupCommitter.start();
+
+        // when
+        CompletableFuture<Comment> first = commentGroupCommitter.submit("a", user, 1L);
+        CompletableFuture<Comment> second = commentGroupCommitter.submit("b", user, 1L);
+        CompletableFuture<Comment> third = commentGroupCommitter.submit("c", user, 2L);
+
+        // then
+        assertThat(first.orTimeout(5, TimeUnit.SECONDS).join().getContents()).isEqualTo("a");
+        assertThat(third.join().getId()).isEqualTo(3L);
+        assertThat(second.join().getId()).isEqualTo(2L);
+        then(commentRepository).should(times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void 묶음_커밋이_실패하면_건별로_재시도해_실패한_건만_예외로_완료된다() {
+        // given
+        given(commentRepository.saveAll(anyList()))
+                .willThrow(new IllegalStateException("fk violation"))
+                .willAnswer(invocation -> assignIds(invocation.getArgument(0)))
+                .willThrow(new IllegalStateException("fk violation"));
+        User user = new User();
+        commentGroupCommitter.start();
+
+        // when
+        CompletableFuture<Comment> ok = commentGroupCommitter.submit("ok", user, 1L);
+        CompletableFuture<Comment> broken = commentGroupCommitter.submit("broken", user, 99L);
+
+        // then
+        assertThat(ok.orTimeout(5, TimeUnit.SECONDS).join().getContents()).isEqualTo("ok");
+        assertThatThrownBy(broken::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 없는_일정에_단_댓글은_저장하지_않고_예외로_완료된다() {
+        // given
+        willReturn(List.of(1L)).given(todoRepository).findIdsByIdIn(any());
+        given(commentRepository.saveAll(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        User user = new User();
+        commentGroupCommitter.start();
+
+        // when
+        CompletableFuture<Comment> ok = commentGroupCommitter.submit("ok", user, 1L);
+        CompletableFuture<Comment> missing = commentGroupCommitter.submit("missing", user, 99L);
+
+        // then
+        assertThat(ok.orTimeout(5, TimeUnit.SECONDS).join().getContents()).isEqualTo("ok");
+        assertThatThrownBy(missing::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class)
+                .hasRootCauseMessage("Todo not found");
+        then(commentRepository).should(never()).saveAll(argThat((List<Comment> comments) -> comments.stream()
+                .anyMatch(comment -> comment.getContents().equals("missing"))));
+    }
+
+    @Test
+    void 종료된_뒤에는_댓글을_받지_않는다() throws InterruptedException {
+        // given
+        commentGroupCommitter.start();
+        commentGroupCommitter.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> commentGroupCommitter.submit("late", new User(), 1L))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void 커밋이_느리면_큐에서_기다리던_댓글만_시간_초과로_빠지고_묶음에_들어간_댓글은_커밋을_기다린다()
+            throws InterruptedException {
+        // given
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(commentRepository.saveAll(anyList())).willAnswer(invocation -> {
+            flushStarted.countDown();
+            release.await();
+            return assignIds(invocation.getArgument(0));
+        });
+        commentGroupCommitter.shutdown();
+        commentGroupCommitter = new CommentGroupCommitter(commentRepository, todoRepository, transactionTemplate,
+                new SimpleMeterRegistry(), true, 100, 10, Duration.ofMillis(1), Duration.ofMillis(100));
+        commentGroupCommitter.start();
+
+        CompletableFuture<Comment> flushing = commentGroupCommitter.submit("flushing", new User(), 1L);
+        flushStarted.await();
+
+        // when
+        CompletableFuture<Comment> queued = commentGroupCommitter.submit("queued", new User(), 1L);
+
+        // then
+        assertThatThrownBy(queued::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(flushing).isNotDone();
+
+        release.countDown();
+        assertThat(flushing.orTimeout(5, TimeUnit.SECONDS).join().getContents()).isEqualTo("flushing");
+        commentGroupCommitter.shutdown();
+        then(commentRepository).should(times(1)).saveAll(anyList());
+        then(commentRepository).should(never()).saveAll(argThat((List<Comment> comments) -> comments.stream()
+                .anyMatch(comment -> comment.getContents().equals("queued"))));
+    }
+
+    @Test
+    void 커밋_중_Error_가_나도_flusher_는_계속_동작한다() {
+        // given
+        given(commentRepository.saveAll(anyList()))
+                .willThrow(new StackOverflowError())
+                .willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        commentGroupCommitter.start();
+
+        // when
+        CompletableFuture<Comment> failed = commentGroupCommitter.submit("first", new User(), 1L);
+        Throwable failure = failed.handle((comment, e) -> e).orTimeout(5, TimeUnit.SECONDS).join();
+        CompletableFuture<Comment> next = commentGroupCommitter.submit("next", new User(), 1L);
+
+        // then
+        assertThat(failure).isInstanceOf(StackOverflowError.class);
+        assertThat(next.orTimeout(5, TimeUnit.SECONDS).join().getContents()).isEqualTo("next");
+    }
+
+    @Test
+    void 종료_시_큐에_남은_댓글은_실패로_완료된다() throws InterruptedException {
+        // given - flusher 없이 큐에만 쌓인 상태
+        ReflectionTestUtils.setField(commentGroupCommitter, "running", true);
+        CompletableFuture<Comment> stranded = commentGroupCommitter.submit("stranded", new User(), 1L);
+
+        // when
+        commentGroupCommitter.shutdown();
+
+        // then
+        assertThatThrownBy(stranded::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private List<Comment> assignIds(List<Comment> comments) {
+        comments.forEach(comment -> ReflectionTestUtils.setField(comment, "id", sequence.incrementAndGet()));
+        return comments;
+    }
+}
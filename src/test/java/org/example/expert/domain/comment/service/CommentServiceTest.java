@@ -1,19 +1,35 @@
 package org.example.expert.domain.comment.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.LongStream;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentListVersion;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.stream.CommentStreamBroadcaster;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -23,6 +39,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -31,6 +51,12 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private CommentGroupCommitter commentGroupCommitter;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private CommentStreamBroadcaster commentStreamBroadcaster;
     @InjectMocks
     private CommentService commentService;
 
@@ -41,7 +67,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.existsById(anyLong())).willReturn(false);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -62,8 +88,13 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
 
         // when
         CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
@@ -71,4 +102,168 @@ class CommentServiceTest {
         // then
         assertNotNull(result);
     }
+
+    @Test
+    public void group_commit_모드에서는_묶음이_커밋된_뒤_응답한다() {
+        // given
+        long todoId = 1;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        Comment comment = new Comment(request.getContents(), User.fromAuthUser(authUser), new Todo());
+        ReflectionTestUtils.setField(comment, "id", 10L);
+
+        given(commentGroupCommitter.isEnabled()).willReturn(true);
+        given(commentGroupCommitter.submit(eq("contents"), any(), eq(todoId)))
+                .willReturn(CompletableFuture.completedFuture(comment));
+
+        // when
+        CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
+
+        // then
+        assertEquals(10L, result.getId());
+        then(todoRepository).shouldHaveNoInteractions();
+        then(commentRepository).should(never()).save(any());
+        then(commentStreamBroadcaster).should().publish(eq(todoId), any());
+    }
+
+    @Test
+    public void group_commit_대기_중_시간_초과로_빠진_댓글은_503_예외를_던지고_퍼뜨리지_않는다() {
+        // given
+        long todoId = 1;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        given(commentGroupCommitter.isEnabled()).willReturn(true);
+        given(commentGroupCommitter.submit(eq("contents"), any(), eq(todoId)))
+                .willReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> commentService.saveComment(authUser, todoId, request));
+        then(commentStreamBroadcaster).should(never()).publish(anyLong(), any());
+    }
+
+    @Test
+    public void 댓글이_삭제되어_건수가_바뀌면_목록_버전도_바뀐다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime lastModifiedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        given(commentRepository.findVersionByTodoId(todoId))
+                .willReturn(commentListVersion(3, lastModifiedAt), commentListVersion(2, lastModifiedAt));
+
+        // when
+        ResourceVersion before = commentService.getCommentsVersion(todoId);
+        ResourceVersion after = commentService.getCommentsVersion(todoId);
+
+        // then
+        assertNotEquals(before.getETag(), after.getETag());
+        assertEquals(before.getLastModified(), after.getLastModified());
+    }
+
+    @Test
+    public void 댓글을_커서로_나눠_조회하고_다음_커서를_만든다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        given(commentRepository.findFirstSlice(eq(todoId), any())).willReturn(List.of(
+                new CommentResponse(1L, "a", 1L, "a@a.com", createdAt),
+                new CommentResponse(2L, "b", 1L, "a@a.com", createdAt),
+                new CommentResponse(3L, "c", 1L, "a@a.com", createdAt.plusSeconds(1))
+        ));
+
+        // when
+        CursorResponse<CommentResponse> firstPage = commentService.getComments(todoId, null, 2);
+
+        // then
+        assertEquals(2, firstPage.getContent().size());
+        KeysetCursor nextCursor = KeysetCursor.decode(firstPage.getNextCursor());
+        assertEquals(createdAt, nextCursor.getTimestamp());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    public void 마지막_페이지면_다음_커서가_없다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+        given(commentRepository.findSliceAfter(eq(todoId), eq(createdAt), eq(2L), any())).willReturn(List.of(
+                new CommentResponse(3L, "c", 1L, "a@a.com", createdAt.plusSeconds(1))
+        ));
+
+        // when
+        CursorResponse<CommentResponse> page = commentService.getComments(todoId, cursor, 2);
+
+        // then
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void 댓글_조회_size_가_100을_넘으면_예외가_발생한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getComments(1L, null, 101));
+
+        // then
+        assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        then(commentRepository).should(never()).findFirstSlice(anyLong(), any());
+    }
+
+    @Test
+    public void Last_Event_ID_이후의_댓글만_다시_보내준다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        String lastEventId = new KeysetCursor(createdAt, 5L).encode();
+        List<CommentResponse> missed = List.of(new CommentResponse(6L, "missed", 1L, "a@a.com", createdAt));
+        SseEmitter emitter = new SseEmitter();
+
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(commentStreamBroadcaster.subscribe(todoId)).willReturn(emitter);
+        given(commentRepository.findSliceAfter(eq(todoId), eq(createdAt), eq(5L), any())).willReturn(missed);
+
+        // when
+        SseEmitter result = commentService.streamComments(todoId, lastEventId);
+
+        // then
+        assertEquals(emitter, result);
+        then(commentStreamBroadcaster).should().replay(emitter, missed);
+    }
+
+    @Test
+    public void 다시_보낼_수_있는_범위보다_많이_놓쳤다면_reset_이벤트를_보낸다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        String lastEventId = new KeysetCursor(createdAt, 5L).encode();
+        List<CommentResponse> missed = LongStream.rangeClosed(6L, 1006L)
+                .mapToObj(id -> new CommentResponse(id, "missed", 1L, "a@a.com", createdAt))
+                .toList();
+        SseEmitter emitter = new SseEmitter();
+
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(commentStreamBroadcaster.subscribe(todoId)).willReturn(emitter);
+        given(commentRepository.findSliceAfter(eq(todoId), eq(createdAt), eq(5L), any())).willReturn(missed);
+
+        // when
+        commentService.streamComments(todoId, lastEventId);
+
+        // then
+        then(commentStreamBroadcaster).should().reset(emitter);
+        then(commentStreamBroadcaster).should(never()).replay(any(), any());
+    }
+
+    private CommentListVersion commentListVersion(long count, LocalDateTime lastModifiedAt) {
+        return new CommentListVersion() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastModifiedAt() {
+                return lastModifiedAt;
+            }
+        };
+    }
 }
@@ -0,0 +1,157 @@
+package org.example.expert.domain.comment.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class CommentStreamBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CommentStreamBroadcaster broadcaster =
+            new CommentStreamBroadcaster(meterRegistry, Duration.ofMinutes(1), 20) {
+                @Override
+                SseEmitter createEmitter() {
+                    return new RecordingEmitter();
+                }
+            };
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void 구독한_일정의_댓글만_전송된다() throws InterruptedException {
+        // given
+        RecordingEmitter subscriber = (RecordingEmitter) broadcaster.subscribe(1L);
+        RecordingEmitter other = (RecordingEmitter) broadcaster.subscribe(2L);
+
+        // when
+        broadcaster.publish(1L, comment(10L));
+
+        // then
+        awaitUntil(() -> subscriber.events.stream().anyMatch(event -> event.contains("event:comment")));
+        assertThat(other.events).noneMatch(event -> event.contains("event:comment"));
+    }
+
+    @Test
+    void 전송에_실패한_구독자는_해제된다() throws InterruptedException {
+        // given
+        RecordingEmitter broken = (RecordingEmitter) broadcaster.subscribe(1L);
+        broken.broken = true;
+
+        // when
+        broadcaster.publish(1L, comment(10L));
+
+        // then
+        awaitUntil(() -> subscriberCount() == 0);
+    }
+
+    @Test
+    void heartbeat_는_전송_스레드에서_보낸다() throws InterruptedException {
+        // given
+        RecordingEmitter subscriber = (RecordingEmitter) broadcaster.subscribe(1L);
+
+        // when & then
+        awaitUntil(() -> subscriber.events.stream().anyMatch(event -> event.contains("heartbeat")));
+        assertThat(subscriber.threads).allMatch(thread -> thread.equals("comment-stream"));
+    }
+
+    @Test
+    void 마지막_구독자가_빠지는_동시에_새로_구독해도_등록이_유실되지_않는다() {
+        for (int i = 0; i < 500; i++) {
+            // given
+            SseEmitter leaving = broadcaster.subscribe(1L);
+
+            // when
+            CompletableFuture<Void> unsubscribe = CompletableFuture.runAsync(leaving::complete);
+            SseEmitter joining = broadcaster.subscribe(1L);
+            unsubscribe.join();
+
+            // then
+            assertThat(subscriberCount()).isEqualTo(1);
+            joining.complete();
+        }
+    }
+
+    @Test
+    void 너무_많이_놓친_구독자에게는_reset_이벤트를_보낸다() {
+        // given
+        RecordingEmitter subscriber = (RecordingEmitter) broadcaster.subscribe(1L);
+
+        // when
+        broadcaster.reset(subscriber);
+
+        // then
+        assertThat(subscriber.events).anyMatch(event -> event.contains("event:reset"));
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("comment.stream.subscribers").gauge().value();
+    }
+
+    private CommentResponse comment(long id) {
+        return new CommentResponse(id, "contents", 1L, "a@a.com", LocalDateTime.of(2025, 3, 1, 12, 0));
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("제한 시간 안에 조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // 서블릿 응답 없이 전송 내용과 스레드를 기록하고, 완료 콜백을 바로 실행한다.
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private volatile boolean broken;
+        private Runnable completion;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("connection closed");
+            }
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completion = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            if (completion != null) {
+                completion.run();
+            }
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            complete();
+        }
+    }
+}
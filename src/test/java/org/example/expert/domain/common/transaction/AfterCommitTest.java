@@ -0,0 +1,74 @@
+package org.example.expert.domain.common.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AfterCommitTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_실행한다() {
+        // when
+        AfterCommit.run(runs::incrementAndGet);
+
+        // then
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋_이후에만_실행한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        AfterCommit.run(runs::incrementAndGet);
+        int beforeCommit = runs.get();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // then
+        assertThat(beforeCommit).isZero();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 롤백되면_실행하지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        AfterCommit.run(runs::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    void 지금_한_번_커밋_이후에_한_번_더_실행한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        AfterCommit.runNowAndAfterCommit(runs::incrementAndGet);
+        int beforeCommit = runs.get();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // then
+        assertThat(beforeCommit).isEqualTo(1);
+        assertThat(runs.get()).isEqualTo(2);
+    }
+}
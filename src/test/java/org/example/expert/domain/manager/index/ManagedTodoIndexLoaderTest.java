@@ -0,0 +1,76 @@
+package org.example.expert.domain.manager.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.Stream;
+import org.example.expert.domain.manager.repository.ManagerMembership;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ManagedTodoIndexLoaderTest {
+
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ManagedTodoIndex managedTodoIndex = new ManagedTodoIndex(true, new SimpleMeterRegistry());
+    private ManagedTodoIndexLoader managedTodoIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        managedTodoIndexLoader = new ManagedTodoIndexLoader(managerRepository, managedTodoIndex, transactionManager);
+        managedTodoIndex.rebuild(Stream.of(membership(1L, 10L)));
+    }
+
+    @Test
+    void 삭제_후_남은_행이_없으면_색인에서_뺀다() {
+        // given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(managerRepository.existsByUserIdAndTodoId(1L, 10L)).willReturn(false);
+
+        // when
+        managedTodoIndexLoader.syncAfterCommit(1L, 10L);
+
+        // then
+        assertThat(managedTodoIndex.findTodoIds(1L, 0L, 10)).isEmpty();
+    }
+
+    @Test
+    void 삭제_후에도_행이_남아_있으면_색인에_다시_넣는다() {
+        // given
+        managedTodoIndex.remove(1L, 10L);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(managerRepository.existsByUserIdAndTodoId(1L, 10L)).willReturn(true);
+
+        // when
+        managedTodoIndexLoader.syncAfterCommit(1L, 10L);
+
+        // then
+        assertThat(managedTodoIndex.findTodoIds(1L, 0L, 10)).containsExactly(10L);
+    }
+
+    private ManagerMembership membership(long userId, long todoId) {
+        return new ManagerMembership() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+        };
+    }
+}
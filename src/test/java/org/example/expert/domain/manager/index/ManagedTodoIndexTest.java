@@ -0,0 +1,80 @@
+package org.example.expert.domain.manager.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.Stream;
+import org.example.expert.domain.manager.repository.ManagerMembership;
+import org.junit.jupiter.api.Test;
+
+class ManagedTodoIndexTest {
+
+    private final ManagedTodoIndex managedTodoIndex = new ManagedTodoIndex(true, new SimpleMeterRegistry());
+
+    @Test
+    void 적재_전에는_준비되지_않은_상태다() {
+        assertThat(managedTodoIndex.isReady()).isFalse();
+    }
+
+    @Test
+    void 커서_이후의_일정_id를_오름차순으로_잘라준다() {
+        // given
+        managedTodoIndex.rebuild(Stream.of(
+                membership(1L, 30L), membership(1L, 10L), membership(1L, 20L),
+                membership(1L, 10L), membership(2L, 40L)));
+
+        // when & then
+        assertThat(managedTodoIndex.isReady()).isTrue();
+        assertThat(managedTodoIndex.findTodoIds(1L, 0L, 2)).containsExactly(10L, 20L);
+        assertThat(managedTodoIndex.findTodoIds(1L, 20L, 2)).containsExactly(30L);
+        assertThat(managedTodoIndex.findTodoIds(1L, 15L, 10)).containsExactly(20L, 30L);
+        assertThat(managedTodoIndex.findTodoIds(3L, 0L, 10)).isEmpty();
+    }
+
+    @Test
+    void 추가와_삭제가_반영된다() {
+        // given
+        managedTodoIndex.rebuild(Stream.of(membership(1L, 10L)));
+
+        // when
+        managedTodoIndex.add(1L, 5L);
+        managedTodoIndex.add(1L, 5L);
+        managedTodoIndex.remove(1L, 10L);
+        managedTodoIndex.remove(2L, 10L);
+
+        // then
+        assertThat(managedTodoIndex.findTodoIds(1L, 0L, 10)).containsExactly(5L);
+    }
+
+    @Test
+    void 적재_중에_커밋된_변경도_잃지_않는다() {
+        // given
+        Stream<ManagerMembership> memberships = Stream.of(membership(1L, 10L), membership(1L, 20L))
+                .peek(membership -> {
+                    if (membership.getTodoId() == 10L) {
+                        managedTodoIndex.remove(1L, 20L);
+                        managedTodoIndex.add(1L, 30L);
+                    }
+                });
+
+        // when
+        managedTodoIndex.rebuild(memberships);
+
+        // then
+        assertThat(managedTodoIndex.findTodoIds(1L, 0L, 10)).containsExactly(10L, 30L);
+    }
+
+    private ManagerMembership membership(Long userId, Long todoId) {
+        return new ManagerMembership() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+        };
+    }
+}
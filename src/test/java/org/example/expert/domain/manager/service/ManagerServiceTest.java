@@ -3,24 +3,40 @@ package org.example.expert.domain.manager.service;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchItemResult;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.manager.index.ManagedTodoIndexLoader;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.ManagerAssignmentAccess;
+import org.example.expert.domain.todo.repository.ManagerRemovalAccess;
+import org.example.expert.domain.todo.repository.TodoAccessRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -40,6 +56,12 @@ class ManagerServiceTest {
   private UserRepository userRepository;
   @Mock
   private TodoRepository todoRepository;
+  @Mock
+  private TodoAccessRepository todoAccessRepository;
+  @Mock
+  private ManagedTodoIndex managedTodoIndex;
+  @Mock
+  private ManagedTodoIndexLoader managedTodoIndexLoader;
   @InjectMocks
   private ManagerService managerService;
 
@@ -55,6 +77,18 @@ class ManagerServiceTest {
     assertEquals("Todo not found", exception.getMessage());
   }
 
+  @Test
+  void 담당자_등록_시_Todo가_없다면_예외가_발생한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    given(todoAccessRepository.findManagerAssignmentAccess(1L, 2L)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> managerService.saveManager(authUser, 1L, new ManagerSaveRequest(2L)))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("Todo not found");
+  }
+
   @Test
   void todo의_user가_null인_경우_예외가_발생한다() {
     // given
@@ -62,12 +96,10 @@ class ManagerServiceTest {
     long todoId = 1L;
     long managerUserId = 2L;
 
-    Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", null);
-
     ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+    given(todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId))
+            .willReturn(Optional.of(assignmentAccess(null, managerUserId, "b@b.com")));
 
     // when & then
     InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -85,15 +117,10 @@ class ManagerServiceTest {
     Long todoId = 1L;
 
     AuthUser authUser = new AuthUser(managerUserId, "e@e.com", UserRole.USER);
-    User writer = new User();
-    ReflectionTestUtils.setField(writer, "id", writerUserId);
-
-    Todo todo = new Todo("제목", "내용", "Sunny", writer);
-    ReflectionTestUtils.setField(todo, "id", todoId);
-
     ManagerSaveRequest request = new ManagerSaveRequest(managerUserId);
 
-    given(todoRepository.findById(eq(todoId))).willReturn(Optional.of(todo));
+    given(todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId))
+            .willReturn(Optional.of(assignmentAccess(writerUserId, managerUserId, "e@e.com")));
 
     // when
     // then
@@ -102,6 +129,19 @@ class ManagerServiceTest {
             .hasMessageContaining("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
   }
 
+  @Test
+  void 담당자로_등록할_유저가_없으면_예외가_발생한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    given(todoAccessRepository.findManagerAssignmentAccess(1L, 2L))
+            .willReturn(Optional.of(assignmentAccess(1L, null, null)));
+
+    // when & then
+    assertThatThrownBy(() -> managerService.saveManager(authUser, 1L, new ManagerSaveRequest(2L)))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+  }
+
   @Test
   void 본인을_매니저로_지정할_경우_예외가_발생한다() {
     // given
@@ -111,14 +151,8 @@ class ManagerServiceTest {
 
     ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-    User user = new User();
-    ReflectionTestUtils.setField(user, "id", 1L);
-
-    Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", user);
-
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-    given(userRepository.findById(managerUserId)).willReturn(Optional.of(user));
+    given(todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId))
+            .willReturn(Optional.of(assignmentAccess(1L, 1L, "a@a.com")));
 
     // when & then
     assertThatThrownBy(() -> managerService.saveManager(authUser, todoId, managerSaveRequest))
@@ -135,18 +169,18 @@ class ManagerServiceTest {
 
     ManagerSaveRequest request = new ManagerSaveRequest(managerUserId);
 
-    User user = User.fromAuthUser(authUser);
     User managerUser = new User();
     ReflectionTestUtils.setField(managerUser, "id", managerUserId);
-
     Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", user);
+    ReflectionTestUtils.setField(todo, "id", todoId);
 
     Manager savedManager = new Manager(managerUser, todo);
     ReflectionTestUtils.setField(savedManager, "id", 1L);
 
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-    given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+    given(todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId))
+            .willReturn(Optional.of(assignmentAccess(1L, managerUserId, "b@b.com")));
+    given(userRepository.getReferenceById(managerUserId)).willReturn(managerUser);
+    given(todoRepository.getReferenceById(todoId)).willReturn(todo);
     given(managerRepository.save(any())).willReturn(savedManager);
 
     // when
@@ -154,8 +188,10 @@ class ManagerServiceTest {
 
     // then
     Assertions.assertThat(response.getId()).isEqualTo(savedManager.getId());
-    Assertions.assertThat(response.getUser().getId()).isEqualTo(managerUser.getId());
-    Assertions.assertThat(response.getUser().getEmail()).isEqualTo(managerUser.getEmail());
+    Assertions.assertThat(response.getUser().getId()).isEqualTo(managerUserId);
+    Assertions.assertThat(response.getUser().getEmail()).isEqualTo("b@b.com");
+    then(userRepository).should(never()).findById(any());
+    then(todoRepository).should(never()).findById(any());
   }
 
   @Test // 테스트코드 샘플
@@ -187,20 +223,15 @@ class ManagerServiceTest {
   void todo가_정상적으로_등록된다() {
     // given
     AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-    User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
 
     long todoId = 1L;
-    Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
     long managerUserId = 2L;
-    User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
-    ReflectionTestUtils.setField(managerUser, "id", managerUserId);
 
     ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(
             managerUserId); // request dto 생성
 
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-    given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+    given(todoAccessRepository.findManagerAssignmentAccess(todoId, managerUserId))
+            .willReturn(Optional.of(assignmentAccess(authUser.getId(), managerUserId, "b@b.com")));
     given(managerRepository.save(any(Manager.class))).willAnswer(
             invocation -> invocation.getArgument(0));
 
@@ -210,8 +241,8 @@ class ManagerServiceTest {
 
     // then
     assertNotNull(response);
-    assertEquals(managerUser.getId(), response.getUser().getId());
-    assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+    assertEquals(managerUserId, response.getUser().getId());
+    assertEquals("b@b.com", response.getUser().getEmail());
   }
 
   @Test
@@ -220,16 +251,11 @@ class ManagerServiceTest {
     long userId = 1L;
     long todoId = 1L;
 
-    AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
-
-    Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", null);
-
-    given(userRepository.findById(userId)).willReturn(Optional.of(User.fromAuthUser(authUser)));
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+    given(todoAccessRepository.findManagerRemovalAccess(userId, todoId, 2L))
+            .willReturn(Optional.of(removalAccess(todoId, null, 2L, todoId)));
 
     // when & then
-    assertThatThrownBy(() -> managerService.deleteManager(authUser.getId(), todoId, 2L))
+    assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, 2L))
             .isInstanceOf(InvalidRequestException.class)
             .hasMessageContaining("해당 일정을 만든 유저가 유효하지 않습니다.");
   }
@@ -241,19 +267,11 @@ class ManagerServiceTest {
     long writerId = 2L;
     long todoId = 1L;
 
-    AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
-
-    User writer = new User();
-    ReflectionTestUtils.setField(writer, "id", writerId);
-
-    Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", writer);
-
-    given(userRepository.findById(userId)).willReturn(Optional.of(User.fromAuthUser(authUser)));
-    given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+    given(todoAccessRepository.findManagerRemovalAccess(userId, todoId, 2L))
+            .willReturn(Optional.of(removalAccess(todoId, writerId, 2L, todoId)));
 
     // when & then
-    assertThatThrownBy(() -> managerService.deleteManager(authUser.getId(), todoId, 2L))
+    assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, 2L))
             .isInstanceOf(InvalidRequestException.class)
             .hasMessageContaining("해당 일정을 만든 유저가 유효하지 않습니다.");
   }
@@ -262,33 +280,177 @@ class ManagerServiceTest {
   void 담당자가_아닌_유저를_해제하면_예외가_발생() {
     // given
     long userId = 1L;
-    long managerUserId = 2L;
     long todoId = 1L;
 
-    AuthUser authUser = new AuthUser(userId, "a@a.com", UserRole.USER);
+    given(todoAccessRepository.findManagerRemovalAccess(userId, todoId, 2L))
+            .willReturn(Optional.of(removalAccess(todoId, userId, 2L, 3L)));
 
-    User writer = new User();
-    ReflectionTestUtils.setField(writer, "id", userId);
+    // when & then
+    assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, 2L))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("해당 일정에 등록된 담당자가 아닙니다.");
+    then(managerRepository).should(never()).bulkDeleteById(any());
+  }
 
-    User managerUser = new User();
-    ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+  @Test
+  void 매니저_삭제_시_유저_일정_담당자가_없으면_각각_예외가_발생한다() {
+    // given
+    given(todoAccessRepository.findManagerRemovalAccess(1L, 1L, 2L))
+            .willReturn(Optional.empty())
+            .willReturn(Optional.of(removalAccess(null, null, null, null)))
+            .willReturn(Optional.of(removalAccess(1L, 1L, null, null)));
 
-    Todo todo = new Todo();
-    ReflectionTestUtils.setField(todo, "user", writer);
-    ReflectionTestUtils.setField(todo, "id", todoId);
+    // when & then
+    assertThatThrownBy(() -> managerService.deleteManager(1L, 1L, 2L)).hasMessage("User not found");
+    assertThatThrownBy(() -> managerService.deleteManager(1L, 1L, 2L)).hasMessage("Todo not found");
+    assertThatThrownBy(() -> managerService.deleteManager(1L, 1L, 2L)).hasMessage("Manager not found");
+  }
 
-    Todo anotherTodo = new Todo();
-    ReflectionTestUtils.setField(todo, "id", 3L);
+  @Test
+  void 일정_작성자가_담당자를_해제한다() {
+    // given
+    given(todoAccessRepository.findManagerRemovalAccess(1L, 1L, 2L))
+            .willReturn(Optional.of(removalAccess(1L, 1L, 2L, 1L)));
 
-    Manager manager = new Manager(managerUser, anotherTodo);
+    // when
+    managerService.deleteManager(1L, 1L, 2L);
 
-    given(userRepository.findById(anyLong())).willReturn(Optional.of(User.fromAuthUser(authUser)));
-    given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-    given(managerRepository.findById(anyLong())).willReturn(Optional.of(manager));
+    // then
+    then(managerRepository).should().bulkDeleteById(2L);
+    then(managedTodoIndexLoader).should().syncAfterCommit(3L, 1L);
+  }
+
+  @Test
+  void 담당자_일괄_등록_시_없는_유저_본인_중복은_건너뛰고_나머지만_한_번에_저장한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    long todoId = 10L;
+    ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(2L, 3L, 2L, 1L, 99L, 4L));
+    given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(1L));
+    given(userRepository.findUserResponsesByIdIn(any())).willReturn(List.of(
+            new UserResponse(1L, "a@a.com"), new UserResponse(2L, "b@b.com"),
+            new UserResponse(3L, "c@c.com"), new UserResponse(4L, "d@d.com")));
+    given(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(todoId), any())).willReturn(List.of(3L));
+    given(managerRepository.saveAll(anyList())).willAnswer(invocation -> {
+      List<Manager> managers = invocation.getArgument(0);
+      for (int i = 0; i < managers.size(); i++) {
+        ReflectionTestUtils.setField(managers.get(i), "id", 100L + i);
+      }
+      return managers;
+    });
+
+    // when
+    ManagerBatchSaveResponse response = managerService.saveManagers(authUser, todoId, request);
+
+    // then
+    assertEquals(2, response.getSucceeded());
+    assertEquals(4, response.getSkipped());
+    List<ManagerBatchItemResult> results = response.getResults();
+    assertEquals(100L, results.get(0).getId());
+    assertEquals("이미 등록된 담당자입니다.", results.get(1).getMessage());
+    assertEquals("요청에 중복된 유저입니다.", results.get(2).getMessage());
+    assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", results.get(3).getMessage());
+    assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다.", results.get(4).getMessage());
+    assertEquals("d@d.com", results.get(5).getUser().getEmail());
+    then(managerRepository).should().saveAll(argThat(managers -> ((List<Manager>) managers).size() == 2));
+  }
+
+  @Test
+  void 담당자_일괄_등록_시_일정_작성자가_아니면_아무것도_저장하지_않는다() {
+    // given
+    AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+    given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
 
     // when & then
-    assertThatThrownBy(() -> managerService.deleteManager(authUser.getId(), todoId, 2L))
+    assertThatThrownBy(() -> managerService.saveManagers(authUser, 10L, new ManagerBatchSaveRequest(List.of(3L))))
             .isInstanceOf(InvalidRequestException.class)
-            .hasMessageContaining("해당 일정에 등록된 담당자가 아닙니다.");
+            .hasMessage("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+    then(managerRepository).should(never()).saveAll(any());
+  }
+
+  @Test
+  void 담당_일정은_색인이_준비됐으면_색인에서_id를_잘라_한_번에_조회한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    given(managedTodoIndex.isReady()).willReturn(true);
+    given(managedTodoIndex.findTodoIds(1L, 10L, 3)).willReturn(List.of(20L, 30L, 40L));
+    given(todoRepository.findTodoResponsesByIdIn(List.of(20L, 30L))).willReturn(List.of(
+            todoResponse(30L), todoResponse(20L)));
+
+    // when
+    CursorResponse<TodoResponse> response = managerService.getManagedTodos(authUser, 10L, 2);
+
+    // then
+    assertEquals(List.of(20L, 30L), response.getContent().stream().map(TodoResponse::getId).toList());
+    assertEquals("30", response.getNextCursor());
+    then(managerRepository).should(never()).findManagedTodoIds(any(), any(), any());
+  }
+
+  @Test
+  void 담당_일정은_색인이_준비되지_않았으면_DB에서_조회한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    given(managerRepository.findManagedTodoIds(eq(1L), eq(0L), any())).willReturn(List.of(20L));
+    given(todoRepository.findTodoResponsesByIdIn(List.of(20L))).willReturn(List.of(todoResponse(20L)));
+
+    // when
+    CursorResponse<TodoResponse> response = managerService.getManagedTodos(authUser, null, 2);
+
+    // then
+    assertEquals(1, response.getContent().size());
+    assertNull(response.getNextCursor());
+  }
+
+  private ManagerAssignmentAccess assignmentAccess(Long ownerId, Long managerUserId, String managerEmail) {
+    return new ManagerAssignmentAccess() {
+      @Override
+      public Long getOwnerId() {
+        return ownerId;
+      }
+
+      @Override
+      public Long getManagerUserId() {
+        return managerUserId;
+      }
+
+      @Override
+      public String getManagerEmail() {
+        return managerEmail;
+      }
+    };
+  }
+
+  private ManagerRemovalAccess removalAccess(Long todoId, Long ownerId, Long managerId, Long managerTodoId) {
+    return new ManagerRemovalAccess() {
+      @Override
+      public Long getTodoId() {
+        return todoId;
+      }
+
+      @Override
+      public Long getOwnerId() {
+        return ownerId;
+      }
+
+      @Override
+      public Long getManagerId() {
+        return managerId;
+      }
+
+      @Override
+      public Long getManagerTodoId() {
+        return managerTodoId;
+      }
+
+      @Override
+      public Long getManagerUserId() {
+        return 3L;
+      }
+    };
+  }
+
+  private TodoResponse todoResponse(long todoId) {
+    return new TodoResponse(todoId, "title", "contents", "Sunny", new UserResponse(1L, "a@a.com"),
+            LocalDateTime.now(), LocalDateTime.now());
   }
 }
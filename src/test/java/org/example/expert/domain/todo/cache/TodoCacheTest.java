@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.Test;
+
+class TodoCacheTest {
+
+    private final TodoCache todoCache =
+            new TodoCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Test
+    void 같은_일정을_다시_조회하면_로더를_호출하지_않는다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        todoCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return createTodoResponse(id, 10L);
+        });
+        TodoResponse cached = todoCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return createTodoResponse(id, 10L);
+        });
+
+        // then
+        assertThat(cached.getId()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(todoCache.stats().hitCount()).isEqualTo(1);
+        assertThat(todoCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 여러_일정을_조회하면_캐시에_없는_id만_한_번에_로더로_조회한다() {
+        // given
+        todoCache.get(1L, id -> createTodoResponse(id, 10L));
+        List<Set<? extends Long>> loadedIds = new ArrayList<>();
+
+        // when
+        Map<Long, TodoResponse> found = todoCache.getAll(List.of(1L, 2L, 3L), missing -> {
+            loadedIds.add(Set.copyOf(missing));
+            return Map.of(2L, createTodoResponse(2L, 10L));
+        });
+
+        // then
+        assertThat(loadedIds).containsExactly(Set.of(2L, 3L));
+        assertThat(found).containsOnlyKeys(1L, 2L);
+    }
+
+    private TodoResponse createTodoResponse(Long id, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(id, "제목", "내용", "Sunny", userId, "e@e.com", now, now);
+    }
+}
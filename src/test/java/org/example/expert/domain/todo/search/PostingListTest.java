@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+    private final PostingList postingList = new PostingList();
+
+    @Test
+    void 역순으로_추가해도_병합되어_모든_id_가_오름차순으로_남는다() {
+        // given
+        postingList.add(10_000L, 1);
+        for (long docId = 1_000L; docId >= 1L; docId--) {
+            postingList.add(docId, 1);
+        }
+
+        // when
+        postingList.retain(docId -> true);
+
+        // then
+        List<Long> docIds = docIds();
+        assertThat(postingList.size()).isEqualTo(1_001);
+        assertThat(docIds).isSorted();
+        assertThat(docIds).containsExactlyElementsOf(
+                LongStream.concat(LongStream.rangeClosed(1L, 1_000L), LongStream.of(10_000L)).boxed().toList());
+    }
+
+    @Test
+    void 병합_전에도_버퍼에_있는_id_가_조회된다() {
+        // given
+        postingList.add(100L, 3);
+        postingList.add(7L, 2);
+
+        // when
+        List<Long> docIds = docIds();
+
+        // then
+        assertThat(docIds).containsExactlyInAnyOrder(7L, 100L);
+    }
+
+    @Test
+    void 압축하면_조건에_맞지_않는_id_와_중복_id_를_걸러낸다() {
+        // given
+        postingList.add(100L, 1);
+        postingList.add(7L, 1);
+        postingList.add(7L, 1);
+        postingList.add(50L, 1);
+
+        // when
+        postingList.retain(docId -> docId != 50L);
+
+        // then
+        assertThat(docIds()).containsExactly(7L, 100L);
+    }
+
+    private List<Long> docIds() {
+        List<Long> docIds = new ArrayList<>();
+        postingList.forEach((docId, frequency) -> docIds.add(docId));
+        return docIds;
+    }
+}
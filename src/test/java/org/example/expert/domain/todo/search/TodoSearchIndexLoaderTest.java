@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.util.stream.Stream;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchIndexLoaderTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TodoSearchIndex todoSearchIndex = new TodoSearchIndex();
+
+    @Test
+    void 적재_중에_지워진_일정은_적재가_읽어_둔_문서로_되살아나지_않는다() {
+        // given
+        TodoSearchIndexLoader loader = new TodoSearchIndexLoader(todoRepository, todoSearchIndex, transactionManager);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        // 2번을 적재한 직후, 아직 적재되지 않은 1번의 삭제가 커밋된다.
+        given(todoRepository.streamSearchDocuments()).willReturn(Stream.of(
+                        document(2L, "Meeting notes"), document(1L, "Weekly meeting"))
+                .peek(document -> {
+                    if (document.getId() == 1L) {
+                        todoSearchIndex.remove(1L);
+                    }
+                }));
+
+        // when
+        loader.load();
+
+        // then
+        assertThat(todoSearchIndex.search("meeting", 10)).containsExactly(2L);
+        assertThat(todoSearchIndex.size()).isEqualTo(1);
+    }
+
+    private TodoSearchDocument document(long id, String title) {
+        return new TodoSearchDocument() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getContents() {
+                return "";
+            }
+        };
+    }
+}
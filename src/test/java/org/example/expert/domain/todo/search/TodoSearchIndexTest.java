@@ -0,0 +1,83 @@
+package org.example.expert.domain.todo.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TodoSearchIndexTest {
+
+    private final TodoSearchIndex todoSearchIndex = new TodoSearchIndex();
+
+    @Test
+    void 검색어가_제목에_있는_일정이_더_높은_순위를_갖는다() {
+        // given
+        todoSearchIndex.add(1L, "장보기", "주간 회의 끝나고 장보기");
+        todoSearchIndex.add(2L, "주간 회의", "회의록 정리");
+        todoSearchIndex.add(3L, "운동", "헬스장 가기");
+
+        // when & then
+        assertThat(todoSearchIndex.search("회의", 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 조사가_붙은_한글_단어도_검색된다() {
+        // given
+        todoSearchIndex.add(1L, "회의를 준비하기", "자료 출력");
+
+        // when & then
+        assertThat(todoSearchIndex.search("회의", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제된_일정은_검색되지_않고_다시_추가되지도_않는다() {
+        // given
+        todoSearchIndex.add(1L, "Weekly meeting", "agenda");
+        todoSearchIndex.add(2L, "Meeting notes", "");
+
+        // when
+        todoSearchIndex.remove(1L);
+        todoSearchIndex.add(1L, "Weekly meeting", "agenda");
+
+        // then
+        assertThat(todoSearchIndex.search("MEETING", 10)).containsExactly(2L);
+        assertThat(todoSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 적재_중에는_아직_색인에_없는_일정의_삭제도_기억한다() {
+        // given
+        todoSearchIndex.startLoading();
+
+        // when
+        todoSearchIndex.remove(1L);
+        todoSearchIndex.add(1L, "Weekly meeting", "agenda");
+        todoSearchIndex.finishLoading();
+
+        // then
+        assertThat(todoSearchIndex.search("meeting", 10)).isEmpty();
+        assertThat(todoSearchIndex.size()).isZero();
+    }
+
+    @Test
+    void id_순서가_뒤바뀌어_추가되어도_모두_검색된다() {
+        // given
+        todoSearchIndex.add(300L, "report", "");
+        todoSearchIndex.add(5L, "report", "");
+        todoSearchIndex.add(1_000_000L, "report", "");
+        todoSearchIndex.add(5L, "report", "");
+
+        // when & then
+        assertThat(todoSearchIndex.search("report", 10)).containsExactlyInAnyOrder(5L, 300L, 1_000_000L);
+    }
+
+    @Test
+    void 상위_limit_건만_반환한다() {
+        // given
+        for (long id = 1; id <= 50; id++) {
+            todoSearchIndex.add(id, "task " + id, "task".repeat((int) (id % 3) + 1));
+        }
+
+        // when & then
+        assertThat(todoSearchIndex.search("task", 5)).hasSize(5);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBatchServiceTest {
+
+  @Mock
+  private TodoRepository todoRepository;
+  @Mock
+  private WeatherCache weatherCache;
+  @Mock
+  private TodoSearchIndex todoSearchIndex;
+  @Mock
+  private ManagedTodoIndex managedTodoIndex;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private TodoBatchService todoBatchService;
+
+  private final AuthUser authUser = new AuthUser(1L, "ex@ex.com", UserRole.USER);
+
+  @BeforeEach
+  void setUp() {
+    todoBatchService = new TodoBatchService(todoRepository, weatherCache, todoSearchIndex, managedTodoIndex, transactionTemplate,
+            Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    willAnswer(invocation -> {
+      Consumer<TransactionStatus> action = invocation.getArgument(0);
+      action.accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+  }
+
+  @Test
+  void 유효한_항목을_chunk_단위로_저장하고_날씨는_한_번만_조회한다() {
+    // given
+    AtomicLong sequence = new AtomicLong();
+    given(weatherCache.getTodayWeather()).willReturn("Sunny");
+    given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+      List<Todo> todos = invocation.getArgument(0);
+      todos.forEach(todo -> ReflectionTestUtils.setField(todo, "id", sequence.incrementAndGet()));
+      return todos;
+    });
+    TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+            new TodoSaveRequest("제목1", "내용1"),
+            new TodoSaveRequest("", "내용2"),
+            new TodoSaveRequest("제목3", "내용3"),
+            new TodoSaveRequest("제목4", "내용4")
+    ));
+
+    // when
+    TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+    // then
+    assertThat(response.getSucceeded()).isEqualTo(3);
+    assertThat(response.getFailed()).isEqualTo(1);
+    assertThat(response.getResults()).extracting(TodoBatchItemResult::getId)
+            .containsExactly(1L, null, 2L, 3L);
+    assertThat(response.getResults().get(1).getMessage()).startsWith("title");
+    then(weatherCache).should(times(1)).getTodayWeather();
+    then(todoRepository).should(times(2)).saveAll(anyList());
+  }
+
+  @Test
+  void chunk_저장에_실패하면_해당_chunk_항목만_실패로_보고한다() {
+    // given
+    given(weatherCache.getTodayWeather()).willReturn("Sunny");
+    given(todoRepository.saveAll(anyList()))
+            .willThrow(new IllegalStateException("db down"))
+            .willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+    TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+            new TodoSaveRequest("제목1", "내용1"),
+            new TodoSaveRequest("제목2", "내용2"),
+            new TodoSaveRequest("제목3", "내용3")
+    ));
+
+    // when
+    TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+    // then
+    assertThat(response.getResults()).extracting(TodoBatchItemResult::isSuccess)
+            .containsExactly(false, false, true);
+  }
+
+  @Test
+  void 날씨_조회에_실패하면_날씨_대기_상태로_저장한다() {
+    // given
+    given(weatherCache.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+    given(todoRepository.saveAll(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+    TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+            new TodoSaveRequest("제목1", "내용1")
+    ));
+
+    // when
+    todoBatchService.saveTodos(authUser, request);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Todo>> captor = ArgumentCaptor.forClass(List.class);
+    then(todoRepository).should().saveAll(captor.capture());
+    assertThat(captor.getValue()).extracting(Todo::getWeatherStatus)
+            .containsExactly(WeatherStatus.PENDING);
+  }
+
+  private List<Todo> assignIds(List<Todo> todos) {
+    for (int i = 0; i < todos.size(); i++) {
+      ReflectionTestUtils.setField(todos.get(i), "id", i + 1L);
+    }
+    return todos;
+  }
+}
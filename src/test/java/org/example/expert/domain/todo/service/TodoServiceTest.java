@@ -1,47 +1,83 @@
 package org.example.expert.domain.todo.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
-import org.example.expert.client.WeatherClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.index.ManagedTodoIndex;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoCache;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.todo.repository.TodoRepository;
-import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
 
-  @Mock
-  private WeatherClient weatherClient;
-
   @Mock
   private TodoRepository todoRepository;
+  @Mock
+  private CommentRepository commentRepository;
+  @Mock
+  private ManagerRepository managerRepository;
+  @Mock
+  private TodoCache todoCache;
+  @Mock
+  private TodoSearchIndex todoSearchIndex;
+  @Mock
+  private ManagedTodoIndex managedTodoIndex;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
   @InjectMocks
   private TodoService todoService;
 
   @Test
-  void Todo가_정상적으로_등록된다() {
+  void Todo가_날씨_대기_상태로_정상_등록된다() {
     // given
     AuthUser authUser = new AuthUser(1L, "ex@ex.com", UserRole.USER);
     TodoSaveRequest todoSaveRequest = new TodoSaveRequest("제목", "내용");
-    String todayWeather = "Sunny";
-    Todo todo = new Todo(
-            todoSaveRequest.getTitle(), todoSaveRequest.getContents(), todayWeather,
-            User.fromAuthUser(authUser));
 
-    given(todoRepository.save(any())).willReturn(todo);
-    given(weatherClient.getTodayWeather()).willReturn(todayWeather);
+    given(todoRepository.save(any())).willAnswer(invocation -> {
+      Todo savedTodo = invocation.getArgument(0);
+      assertThat(savedTodo.getWeatherStatus()).isEqualTo(WeatherStatus.PENDING);
+      ReflectionTestUtils.setField(savedTodo, "id", 1L);
+      return savedTodo;
+    });
 
     // when
     TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoSaveRequest);
@@ -49,8 +85,177 @@ class TodoServiceTest {
     // then
     assertThat(todoSaveResponse.getTitle()).isEqualTo(todoSaveRequest.getTitle());
     assertThat(todoSaveResponse.getContents()).isEqualTo(todoSaveRequest.getContents());
-    assertThat(todoSaveResponse.getWeather()).isEqualTo(todayWeather);
+    assertThat(todoSaveResponse.getWeather()).isNull();
     assertThat(todoSaveResponse.getUser().getId()).isEqualTo(authUser.getId());
     assertThat(todoSaveResponse.getUser().getEmail()).isEqualTo(authUser.getEmail());
   }
-}
\ No newline at end of file
+
+  @Test
+  void 커서_조회시_다음_페이지가_있으면_마지막_항목으로_커서를_만든다() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    TodoResponse first = createTodoResponse(3L, now);
+    TodoResponse second = createTodoResponse(2L, now.minusMinutes(1));
+    TodoResponse third = createTodoResponse(1L, now.minusMinutes(2));
+
+    given(todoRepository.findFirstSlice(any())).willReturn(List.of(first, second, third));
+
+    // when
+    CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 2);
+
+    // then
+    assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+    KeysetCursor nextCursor = KeysetCursor.decode(response.getNextCursor());
+    assertThat(nextCursor.getTimestamp()).isEqualTo(second.getModifiedAt());
+    assertThat(nextCursor.getId()).isEqualTo(2L);
+  }
+
+  @Test
+  void 커서_이후_구간을_조회하고_마지막_페이지면_커서를_비운다() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    TodoResponse last = createTodoResponse(1L, now.minusMinutes(2));
+    String cursor = new KeysetCursor(now.minusMinutes(1), 2L).encode();
+
+    given(todoRepository.findSliceAfter(eq(now.minusMinutes(1)), eq(2L), any()))
+            .willReturn(List.of(last));
+
+    // when
+    CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 2);
+
+    // then
+    assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+    assertThat(response.getNextCursor()).isNull();
+  }
+
+  @Test
+  void 잘못된_커서로_조회하면_예외가_발생한다() {
+    assertThatThrownBy(() -> todoService.getTodosByCursor("not-a-cursor", 10))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("유효하지 않은 커서입니다.");
+  }
+
+  @Test
+  void 커서_조회_size_가_100을_넘으면_예외가_발생한다() {
+    assertThatThrownBy(() -> todoService.getTodosByCursor(null, 101))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("size는 1 이상 100 이하여야 합니다.");
+  }
+
+  @Test
+  void 검색_결과를_색인_순위대로_반환하고_삭제된_일정은_제외한다() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    given(todoSearchIndex.search("회의", 10)).willReturn(List.of(3L, 1L, 2L));
+    given(todoRepository.findTodoResponsesByIdIn(List.of(3L, 1L, 2L)))
+            .willReturn(List.of(createTodoResponse(1L, now), createTodoResponse(3L, now)));
+
+    // when
+    List<TodoResponse> result = todoService.searchTodos("회의", 10);
+
+    // then
+    assertThat(result).extracting(TodoResponse::getId).containsExactly(3L, 1L);
+  }
+
+  @Test
+  void 검색어가_비어_있으면_예외가_발생한다() {
+    assertThatThrownBy(() -> todoService.searchTodos(" ", 10))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("검색어를 입력해주세요.");
+  }
+
+  @Test
+  void 일정을_한_줄에_하나씩_NDJSON으로_내보낸다() throws Exception {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    given(todoRepository.findExportChunkAfter(eq(0L), any()))
+            .willReturn(List.of(createTodoResponse(1L, now), createTodoResponse(2L, now)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    todoService.exportTodos(out);
+
+    // then
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+    assertThat(objectMapper.readTree(lines[1]).get("user").get("email").asText()).isEqualTo("ex@ex.com");
+    assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("\n");
+  }
+
+  @Test
+  void 내보내기는_묶음이_가득_차면_마지막_id_다음부터_이어서_조회한다() throws Exception {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    List<TodoResponse> fullChunk = LongStream.rangeClosed(1L, 1000L)
+            .mapToObj(id -> createTodoResponse(id, now))
+            .toList();
+    given(todoRepository.findExportChunkAfter(eq(0L), any())).willReturn(fullChunk);
+    given(todoRepository.findExportChunkAfter(eq(1000L), any())).willReturn(List.of(createTodoResponse(1001L, now)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    todoService.exportTodos(out);
+
+    // then
+    assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(1001);
+    then(todoRepository).should(never()).findExportChunkAfter(eq(1001L), any());
+  }
+
+  @Test
+  void 수정일_기간은_종료일_다음날_자정_전까지로_조회한다() {
+    // given
+    given(todoRepository.findTodoResponses(any(), any(), any(), any())).willReturn(Page.empty());
+
+    // when
+    todoService.getTodos(1, 10, "Sunny", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+    // then
+    then(todoRepository).should().findTodoResponses(eq("Sunny"),
+            eq(LocalDateTime.of(2025, 3, 1, 0, 0)), eq(LocalDateTime.of(2025, 4, 1, 0, 0)), any());
+  }
+
+  @Test
+  void 수정일_시작이_종료보다_늦으면_예외가_발생한다() {
+    assertThatThrownBy(() -> todoService.getTodos(1, 10, null,
+            LocalDate.of(2025, 4, 1), LocalDate.of(2025, 3, 1)))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("modifiedFrom은 modifiedTo보다 늦을 수 없습니다.");
+  }
+
+  @Test
+  void 일정을_삭제하면_댓글과_담당자를_먼저_벌크_삭제하고_캐시와_색인을_정리한다() {
+    // given
+    AuthUser authUser = new AuthUser(1L, "ex@ex.com", UserRole.USER);
+    given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+    // when
+    todoService.deleteTodo(authUser, 10L);
+
+    // then
+    InOrder inOrder = inOrder(commentRepository, managerRepository, todoRepository);
+    inOrder.verify(commentRepository).bulkDeleteByTodoId(10L);
+    inOrder.verify(managerRepository).bulkDeleteByTodoId(10L);
+    inOrder.verify(todoRepository).bulkDeleteById(10L);
+    then(todoCache).should(atLeastOnce()).evict(10L);
+    then(todoSearchIndex).should().remove(10L);
+  }
+
+  @Test
+  void 작성자가_아니면_일정을_삭제할_수_없다() {
+    // given
+    AuthUser authUser = new AuthUser(2L, "other@ex.com", UserRole.USER);
+    given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+    // when & then
+    assertThatThrownBy(() -> todoService.deleteTodo(authUser, 10L))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("해당 일정을 만든 유저가 유효하지 않습니다.");
+    then(todoRepository).should(never()).bulkDeleteById(any());
+  }
+
+  private TodoResponse createTodoResponse(Long id, LocalDateTime modifiedAt) {
+    return new TodoResponse(id, "제목" + id, "내용" + id, "Sunny", 1L, "ex@ex.com",
+            modifiedAt, modifiedAt);
+  }
+}
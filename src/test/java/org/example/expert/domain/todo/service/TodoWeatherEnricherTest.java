@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.cache.TodoCache;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 3, 2);
+
+  @Mock
+  private TodoRepository todoRepository;
+  @Mock
+  private WeatherCache weatherCache;
+  @Mock
+  private TodoCache todoCache;
+
+  private TodoWeatherEnricher todoWeatherEnricher;
+
+  @BeforeEach
+  void setUp() {
+    todoWeatherEnricher = new TodoWeatherEnricher(todoRepository, weatherCache, todoCache, 10, 3);
+  }
+
+  @Test
+  void 대기중인_일정에_생성일_기준_날씨를_한_번에_채운다() {
+    // given
+    given(todoRepository.findByWeatherStatus(eq(WeatherStatus.PENDING), any()))
+            .willReturn(List.of(
+                    pending(1L, TODAY.minusDays(1)),
+                    pending(2L, TODAY),
+                    pending(3L, TODAY)));
+    given(weatherCache.getWeather(TODAY.minusDays(1))).willReturn("Rainy");
+    given(weatherCache.getWeather(TODAY)).willReturn("Sunny");
+
+    // when
+    todoWeatherEnricher.enrichPendingTodos();
+
+    // then
+    then(todoRepository).should()
+            .resolveWeather(eq(List.of(1L)), eq("Rainy"), eq(WeatherStatus.RESOLVED), any());
+    then(todoRepository).should()
+            .resolveWeather(eq(List.of(2L, 3L)), eq("Sunny"), eq(WeatherStatus.RESOLVED), any());
+    then(todoCache).should().evictAll(List.of(1L));
+    then(todoCache).should().evictAll(List.of(2L, 3L));
+  }
+
+  @Test
+  void 날씨_조회에_실패하면_재시도_횟수를_기록한다() {
+    // given
+    given(todoRepository.findByWeatherStatus(eq(WeatherStatus.PENDING), any()))
+            .willReturn(List.of(pending(1L, TODAY), pending(2L, TODAY)));
+    given(weatherCache.getWeather(TODAY)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+    // when
+    todoWeatherEnricher.enrichPendingTodos();
+
+    // then
+    then(todoRepository).should().recordWeatherFailure(List.of(1L, 2L), 3, WeatherStatus.FAILED);
+    then(todoRepository).should(never()).resolveWeather(any(), anyString(), any(), any());
+  }
+
+  private PendingWeatherTodo pending(Long id, LocalDate createdDate) {
+    return new PendingWeatherTodo() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public LocalDateTime getCreatedAt() {
+        return createdDate.atTime(9, 0);
+      }
+    };
+  }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+class UserProfileCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserProfileCache userProfileCache =
+            new UserProfileCache(100, Duration.ofMinutes(10), meterRegistry);
+
+    @Test
+    void 같은_유저를_다시_조회하면_로더를_호출하지_않고_적중률이_기록된다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            userProfileCache.get(1L, id -> {
+                loadCount.incrementAndGet();
+                return new UserResponse(id, "a@a.com");
+            });
+        }
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(userProfileCache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "userProfile").gauge().value())
+                .isEqualTo(0.75);
+    }
+
+    @Test
+    void 비운_유저는_다시_로더로_조회한다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        userProfileCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return new UserResponse(id, "a@a.com");
+        });
+
+        // when
+        userProfileCache.evict(1L);
+        userProfileCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return new UserResponse(id, "a@a.com");
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.user.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class EmailBloomFilterTest {
+
+    private final EmailBloomFilter emailBloomFilter =
+            new EmailBloomFilter(10_000, 0.01, new SimpleMeterRegistry());
+
+    @Test
+    void 적재_전에는_항상_있을_수_있다고_답한다() {
+        assertThat(emailBloomFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    void 추가한_이메일은_대소문자와_상관없이_항상_있을_수_있다고_답한다() {
+        // given
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.put("user" + i + "@example.com");
+        }
+        emailBloomFilter.markReady();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(emailBloomFilter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+        assertThat(emailBloomFilter.mightContain("USER1@Example.com")).isTrue();
+    }
+
+    @Test
+    void 추가하지_않은_이메일의_오탐률은_설정값_근처다() {
+        // given
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.put("user" + i + "@example.com");
+        }
+        emailBloomFilter.markReady();
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (emailBloomFilter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
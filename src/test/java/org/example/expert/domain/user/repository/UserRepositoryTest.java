@@ -0,0 +1,60 @@
+package org.example.expert.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 여러_유저를_저장하면_insert_가_JDBC_배치로_묶인다() {
+        // given
+        List<User> users = IntStream.range(0, 20)
+                .mapToObj(i -> new User("batch" + i + "@example.com", "password", UserRole.USER))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.saveAll(users));
+
+        // then
+        // 배치가 아니면 insert 마다 statement 를 준비한다. 시퀀스 조회를 포함해도 몇 개에 그쳐야 한다.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 단건_응답_조회에_ETag_용_수정_시각이_함께_담긴다() {
+        // given
+        User user = userRepository.save(new User("version@example.com", "password", UserRole.USER));
+
+        // when
+        UserResponse response = userRepository.findUserResponseById(user.getId()).orElseThrow();
+
+        // then
+        assertThat(response.getModifiedAt()).isNotNull().isEqualTo(user.getModifiedAt());
+    }
+}
@@ -1,23 +1,44 @@
 package org.example.expert.domain.user.service;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.example.expert.config.PasswordEncoder;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.example.expert.config.AsyncPasswordEncoder;
+import org.example.expert.domain.common.dto.MultiGetResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserProfileCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -26,25 +47,39 @@ class UserServiceTest {
   private UserRepository userRepository;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private AsyncPasswordEncoder asyncPasswordEncoder;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private UserProfileCache userProfileCache;
 
   @InjectMocks
   private UserService userService;
 
+  @BeforeEach
+  void setUp() {
+    // 후속 작업 풀 대신 호출한 스레드에서 바로 실행한다.
+    lenient().when(asyncPasswordEncoder.continuationExecutor()).thenReturn(Runnable::run);
+  }
+
   @Test
   void 새_비밀번호가_기존_비밀번호와_같을_시_예외_발생() {
     // given
     String newPassword = "newPassword";
-    User findUser = new User("e@e.com", newPassword, UserRole.USER);
     UserChangePasswordRequest request =
             new UserChangePasswordRequest(newPassword, newPassword);
 
-    given(passwordEncoder.matches(eq(newPassword), eq(findUser.getPassword()))).willReturn(true);
-    given(userRepository.findById(anyLong())).willReturn(Optional.of(findUser));
+    given(userRepository.findPasswordById(anyLong())).willReturn(Optional.of("encodedCurrent"));
+    given(asyncPasswordEncoder.matches(eq(newPassword), eq("encodedCurrent")))
+            .willReturn(CompletableFuture.completedFuture(true));
 
     // when
     // then
-    assertThatThrownBy(() -> userService.changePassword(1L, request))
+    assertThatThrownBy(() -> userService.changePassword(1L, request).join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
             .isInstanceOf(InvalidRequestException.class)
             .hasMessageContaining("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
   }
@@ -52,21 +87,126 @@ class UserServiceTest {
   @Test
   void 기존_비밀번호_인증에_실패할_시_예외_발생() {
     // given
-    String newPassword = "newPassword";
-    String currentPassword = "currentPassword";
-    User findUser = new User("e@e.com", currentPassword, UserRole.USER);
     UserChangePasswordRequest request =
-            new UserChangePasswordRequest(newPassword, newPassword);
+            new UserChangePasswordRequest("wrongPassword", "newPassword");
 
-    given(userRepository.findById(anyLong())).willReturn(Optional.of(findUser));
-    given(passwordEncoder.matches(eq(request.getOldPassword()), eq(findUser.getPassword())))
-            .willReturn(false);
+    given(userRepository.findPasswordById(anyLong())).willReturn(Optional.of("encodedCurrent"));
+    given(asyncPasswordEncoder.matches("newPassword", "encodedCurrent"))
+            .willReturn(CompletableFuture.completedFuture(false));
+    given(asyncPasswordEncoder.matches("wrongPassword", "encodedCurrent"))
+            .willReturn(CompletableFuture.completedFuture(false));
 
     // when
     // then
-    assertThatThrownBy(() -> userService.changePassword(1L, request))
+    assertThatThrownBy(() -> userService.changePassword(1L, request).join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
             .isInstanceOf(InvalidRequestException.class)
             .hasMessageContaining("잘못된 비밀번호입니다.");
+    then(asyncPasswordEncoder).should(never()).encode(anyString());
+  }
+
+  @Test
+  void 비밀번호를_바꾸면_유저_프로필_캐시를_비운다() {
+    // given
+    User findUser = new User("e@e.com", "encodedOld", UserRole.USER);
+    UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword");
+
+    given(userRepository.findPasswordById(1L)).willReturn(Optional.of("encodedOld"));
+    given(userRepository.findById(1L)).willReturn(Optional.of(findUser));
+    given(asyncPasswordEncoder.matches("newPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(false));
+    given(asyncPasswordEncoder.matches("oldPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(true));
+    given(asyncPasswordEncoder.encode("newPassword")).willReturn(CompletableFuture.completedFuture("encodedNew"));
+    runTransactionInline();
+
+    // when
+    userService.changePassword(1L, request).join();
+
+    // then
+    assertThat(findUser.getPassword()).isEqualTo("encodedNew");
+    then(userProfileCache).should().evict(1L);
+  }
+
+  @Test
+  void 해싱하는_동안_다른_비밀번호로_바뀌었다면_변경하지_않는다() {
+    // given
+    User findUser = new User("e@e.com", "encodedByOtherRequest", UserRole.USER);
+    UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword");
+
+    given(userRepository.findPasswordById(1L)).willReturn(Optional.of("encodedOld"));
+    given(userRepository.findById(1L)).willReturn(Optional.of(findUser));
+    given(asyncPasswordEncoder.matches("newPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(false));
+    given(asyncPasswordEncoder.matches("oldPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(true));
+    given(asyncPasswordEncoder.encode("newPassword")).willReturn(CompletableFuture.completedFuture("encodedNew"));
+    given(asyncPasswordEncoder.matches("oldPassword", "encodedByOtherRequest"))
+            .willReturn(CompletableFuture.completedFuture(false));
+    runTransactionInline();
+
+    // when
+    // then
+    assertThatThrownBy(() -> userService.changePassword(1L, request).join())
+            .cause()
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("잘못된 비밀번호입니다.");
+    assertThat(findUser.getPassword()).isEqualTo("encodedByOtherRequest");
+  }
+
+  @Test
+  void 해싱하는_동안_로그인_재해싱으로_해시만_바뀌었다면_비밀번호를_변경한다() {
+    // given
+    User findUser = new User("e@e.com", "rehashedOld", UserRole.USER);
+    UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword");
+
+    given(userRepository.findPasswordById(1L)).willReturn(Optional.of("encodedOld"));
+    given(userRepository.findById(1L)).willReturn(Optional.of(findUser));
+    given(asyncPasswordEncoder.matches("newPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(false));
+    given(asyncPasswordEncoder.matches("oldPassword", "encodedOld")).willReturn(CompletableFuture.completedFuture(true));
+    given(asyncPasswordEncoder.encode("newPassword")).willReturn(CompletableFuture.completedFuture("encodedNew"));
+    given(asyncPasswordEncoder.matches("oldPassword", "rehashedOld")).willReturn(CompletableFuture.completedFuture(true));
+    runTransactionInline();
+
+    // when
+    userService.changePassword(1L, request).join();
+
+    // then
+    assertThat(findUser.getPassword()).isEqualTo("encodedNew");
+    then(userProfileCache).should().evict(1L);
+  }
+
+  @Test
+  void 여러_유저를_조회하면_요청_순서대로_돌려주고_없는_id를_알려준다() {
+    // given
+    given(userProfileCache.getAll(any(), any())).willAnswer(invocation -> {
+      Function<Set<? extends Long>, Map<Long, UserResponse>> loader = invocation.getArgument(1);
+      return loader.apply(Set.copyOf(invocation.<Collection<Long>>getArgument(0)));
+    });
+    given(userRepository.findUserResponsesByIdIn(any())).willReturn(List.of(
+            new UserResponse(1L, "a@a.com"), new UserResponse(3L, "c@c.com")));
+
+    // when
+    MultiGetResponse<UserResponse> response = userService.getUsers(List.of(3L, 2L, 3L, 1L));
+
+    // then
+    assertThat(response.getContent()).extracting(UserResponse::getId).containsExactly(3L, 1L);
+    assertThat(response.getMissingIds()).containsExactly(2L);
+  }
+
+  @Test
+  void 여러_유저를_조회할_때_id가_100개를_넘으면_예외_발생() {
+    // given
+    List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+    // when
+    // then
+    assertThatThrownBy(() -> userService.getUsers(ids))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("ids는 1개 이상 100개 이하여야 합니다.");
+  }
 
+  private void runTransactionInline() {
+    given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+      TransactionCallback<?> callback = invocation.getArgument(0);
+      return callback.doInTransaction(null);
+    });
   }
-}
\ No newline at end of file
+}